@@ -0,0 +1,6 @@
+#!/bin/bash
+# Lets the replica service stream changes from the primary.
+set -e
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" \
+    -c "create role replicator with replication login password 'replicator'"
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+#
+# Compares application start times across packaging modes:
+#
+#   jar, ddl-auto=update   the executable jar with the old schema handling (Flyway off, Hibernate diffs the schema)
+#   jar                    the executable jar, Flyway migrations validated at boot
+#   extracted              the jar extracted to a thin jar + lib/, loaded from plain jars
+#   extracted + CDS        as above, with a class data sharing archive from a training run
+#   extracted + CDS + AOT  as above, using the bean definitions generated by Spring AOT
+#
+# Builds with the fast-startup profile, starts every mode RUNS times against the configured database and
+# writes the median and best "Started ... in" and "process running for" times to target/startup-report.md.
+# Arguments are passed to the application, e.g.
+#   scripts/startup-report.sh --spring.datasource.url=jdbc:postgresql://db:5432/EmployeeManagementDB
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAVA=${JAVA:-java}
+MVN=${MVN:-mvn}
+RUNS=${RUNS:-5}
+APP_ARGS=(--server.port=0 "$@")
+WORK=target/startup
+REPORT=target/startup-report.md
+
+if [[ "${SKIP_BUILD:-false}" != true ]]; then
+    "$MVN" -B -q -Pfast-startup -DskipTests package
+fi
+
+JAR=$(ls target/employeeManagement-*.jar | grep -v '\.original$' | head -n 1)
+rm -rf "$WORK"
+mkdir -p "$WORK"
+"$JAVA" -Djarmode=tools -jar "$JAR" extract --destination "$WORK/extracted" > /dev/null
+EXTRACTED="$WORK/extracted/$(basename "$JAR")"
+
+echo "Training class data sharing archives"
+"$JAVA" -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.context.exit=onRefresh \
+        -jar "$EXTRACTED" "${APP_ARGS[@]}" > "$WORK/training.log" 2>&1
+"$JAVA" -XX:ArchiveClassesAtExit="$WORK/app-aot.jsa" -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+        -jar "$EXTRACTED" "${APP_ARGS[@]}" > "$WORK/training-aot.log" 2>&1
+
+# Starts the application, waits for the "Started" line and stops it again.
+# Prints "<started seconds> <process seconds>".
+start_once() {
+    local log=$1
+    shift
+    "$@" > "$log" 2>&1 &
+    local pid=$!
+    for _ in $(seq 1200); do
+        if grep -q "Started EmployeeManagementApplication" "$log"; then
+            break
+        fi
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited before it started, see $log" >&2
+            exit 1
+        fi
+        sleep 0.1
+    done
+    kill "$pid"
+    wait "$pid" || true
+    sed -nE 's/.*Started EmployeeManagementApplication in ([0-9.]+) seconds \(process running for ([0-9.]+)\).*/\1 \2/p' "$log"
+}
+
+# Prints "<median> <best>" of the numbers on standard input.
+summarize() {
+    sort -n | awk '{ v[NR] = $1 } END { m = (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2; printf "%.2f %.2f", m, v[1] }'
+}
+
+{
+    echo "# Startup report"
+    echo
+    echo "$("$JAVA" -version 2>&1 | head -n 1), $(nproc) CPUs, $RUNS runs per mode, $(date -u +%Y-%m-%dT%H:%M:%SZ)"
+    echo
+    echo "| Mode | Started in, median (s) | best (s) | Process running for, median (s) | best (s) |"
+    echo "|---|---|---|---|---|"
+} > "$REPORT"
+
+run_mode() {
+    local name=$1
+    shift
+    echo "Measuring $name"
+    local times="$WORK/times.txt"
+    : > "$times"
+    for run in $(seq "$RUNS"); do
+        start_once "$WORK/run.log" "$@" >> "$times"
+    done
+    read -r started_median started_best <<< "$(cut -d ' ' -f 1 "$times" | summarize)"
+    read -r process_median process_best <<< "$(cut -d ' ' -f 2 "$times" | summarize)"
+    echo "| $name | $started_median | $started_best | $process_median | $process_best |" >> "$REPORT"
+}
+
+run_mode "jar, ddl-auto=update" "$JAVA" -jar "$JAR" "${APP_ARGS[@]}" \
+        --spring.flyway.enabled=false --spring.jpa.hibernate.ddl-auto=update
+run_mode "jar" "$JAVA" -jar "$JAR" "${APP_ARGS[@]}"
+run_mode "extracted" "$JAVA" -jar "$EXTRACTED" "${APP_ARGS[@]}"
+run_mode "extracted + CDS" "$JAVA" -XX:SharedArchiveFile="$WORK/app.jsa" \
+        -jar "$EXTRACTED" "${APP_ARGS[@]}"
+run_mode "extracted + CDS + AOT" "$JAVA" -XX:SharedArchiveFile="$WORK/app-aot.jsa" -Dspring.aot.enabled=true \
+        -jar "$EXTRACTED" "${APP_ARGS[@]}"
+
+cat "$REPORT"
@@ -0,0 +1,42 @@
+package com.ideas2it.employeeManagement.benchmark;
+
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import com.ideas2it.employeeManagement.model.Project;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Synthetic entities shared by the benchmarks.
+ */
+class BenchmarkData {
+
+    static final List<String> PLACES = List.of("Chennai", "Bangalore", "Pune", "Hyderabad", "Coimbatore");
+
+    static Department department(long index) {
+        return Department.builder()
+                .departmentId(index)
+                .departmentName("Department " + index)
+                .build();
+    }
+
+    static Project project(long index) {
+        return Project.builder()
+                .projectId(index)
+                .projectName("Project " + index)
+                .build();
+    }
+
+    static Employee employee(long index, Department department) {
+        return Employee.builder()
+                .employeeId(index)
+                .employeeName("Employee " + index)
+                .place(PLACES.get((int) (index % PLACES.size())))
+                .dateOfBirth(LocalDate.of(1970, 1, 1).plusDays(index % 12000))
+                .experience((int) (index % 30))
+                .salary(30000 + (index % 100) * 1000)
+                .department(department)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.ideas2it.employeeManagement.benchmark;
+
+import com.ideas2it.employeeManagement.EmployeeManagementApplication;
+import com.ideas2it.employeeManagement.department.respository.DepartmentRepository;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeFilterDTO;
+import com.ideas2it.employeeManagement.employee.respository.EmployeeRepository;
+import com.ideas2it.employeeManagement.employee.service.EmployeeService;
+import com.ideas2it.employeeManagement.mapper.EmployeeMapper;
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of EmployeeServiceImpl against the embedded H2 database from the test
+ * configuration. {@link #getEmployeeById()} loads the entity and maps it, as an
+ * update does; the DTO benchmarks select the DTOs directly, as the read endpoints
+ * do. {@link #getAllEmployees()} and {@link #getEmployeesAfter()} are the entity
+ * counterparts of the list benchmarks: they run the queries the list endpoints
+ * used before, fetching the department with each employee, and map the entities
+ * the way the controllers did. Run with {@code -prof gc} to compare allocation
+ * per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    private static final int DEPARTMENTS = 20;
+
+    @Param({"10000"})
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private long firstEmployeeId;
+
+    private long lastEmployeeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        employeeService = context.getBean(EmployeeService.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            departments.add(Department.builder().departmentName("Department " + i).build());
+        }
+        departments = context.getBean(DepartmentRepository.class).saveAll(departments);
+        List<Employee> seed = new ArrayList<>(employees);
+        for (long i = 0; i < employees; i++) {
+            Employee employee = BenchmarkData.employee(i, departments.get((int) (i % DEPARTMENTS)));
+            employee.setEmployeeId(null);
+            seed.add(employee);
+        }
+        seed = context.getBean(EmployeeRepository.class).saveAll(seed);
+        firstEmployeeId = seed.getFirst().getEmployeeId();
+        lastEmployeeId = seed.getLast().getEmployeeId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> getAllEmployees() {
+        return toDTOs(readOnlyTransaction.execute(status -> entityManager.createQuery(
+                        "select e from Employee e left join fetch e.department where e.isDeleted = false",
+                        Employee.class)
+                .getResultList()));
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> getAllEmployeeDTOs() {
+        return employeeService.getAllEmployeeDTOs();
+    }
+
+    @Benchmark
+    public EmployeeDTO getEmployeeById() {
+        long id = ThreadLocalRandom.current().nextLong(firstEmployeeId, lastEmployeeId + 1);
+        return EmployeeMapper.convertToDTO(employeeService.getEmployeeById(id));
+    }
+
+    @Benchmark
+    public EmployeeDTO getEmployeeDTOById() {
+        long id = ThreadLocalRandom.current().nextLong(firstEmployeeId, lastEmployeeId + 1);
+        return employeeService.getEmployeeDTOById(id);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> getEmployeesAfter() {
+        long after = ThreadLocalRandom.current().nextLong(firstEmployeeId, lastEmployeeId - 100);
+        return toDTOs(readOnlyTransaction.execute(status -> entityManager.createQuery(
+                        "select e from Employee e left join fetch e.department "
+                                + "where e.isDeleted = false and e.employeeId > :after order by e.employeeId",
+                        Employee.class)
+                .setParameter("after", after)
+                .setMaxResults(100)
+                .getResultList()));
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> getEmployeeDTOsAfter() {
+        long after = ThreadLocalRandom.current().nextLong(firstEmployeeId, lastEmployeeId - 100);
+        return employeeService.getEmployeeDTOsAfter(after, 100);
+    }
+
+    @Benchmark
+    public Page<EmployeeDTO> searchEmployees() {
+        EmployeeFilterDTO filter = new EmployeeFilterDTO();
+        filter.setPlace("Chennai");
+        filter.setMinSalary(60000.0);
+        return employeeService.searchEmployees(filter, PageRequest.of(0, 20)).map(EmployeeMapper::convertToDTO);
+    }
+
+    private static List<EmployeeDTO> toDTOs(List<Employee> employees) {
+        List<EmployeeDTO> employeeDTOs = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            employeeDTOs.add(EmployeeMapper.convertToDTO(employee));
+        }
+        return employeeDTOs;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ideas2it.employeeManagement.benchmark;
+
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.mapper.DepartmentMapper;
+import com.ideas2it.employeeManagement.mapper.EmployeeMapper;
+import com.ideas2it.employeeManagement.mapper.ProjectMapper;
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import com.ideas2it.employeeManagement.model.Project;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single entity to DTO conversion and back for each of the mappers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private Employee employee;
+    private EmployeeDTO employeeDTO;
+    private Department department;
+    private DepartmentDTO departmentDTO;
+    private Project project;
+    private ProjectDTO projectDTO;
+
+    @Setup
+    public void setUp() {
+        department = BenchmarkData.department(1);
+        project = BenchmarkData.project(1);
+        employee = BenchmarkData.employee(1, department);
+        employeeDTO = EmployeeMapper.convertToDTO(employee);
+        departmentDTO = DepartmentMapper.convertToDTO(department);
+        projectDTO = ProjectMapper.convertToDTO(project);
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeToDTO() {
+        return EmployeeMapper.convertToDTO(employee);
+    }
+
+    @Benchmark
+    public Employee employeeToEntity() {
+        return EmployeeMapper.convertToEntity(employeeDTO);
+    }
+
+    @Benchmark
+    public DepartmentDTO departmentToDTO() {
+        return DepartmentMapper.convertToDTO(department);
+    }
+
+    @Benchmark
+    public Department departmentToEntity() {
+        return DepartmentMapper.convertToEntity(departmentDTO);
+    }
+
+    @Benchmark
+    public ProjectDTO projectToDTO() {
+        return ProjectMapper.convertToDTO(project);
+    }
+
+    @Benchmark
+    public Project projectToEntity() {
+        return ProjectMapper.convertToEntity(projectDTO);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ideas2it.employeeManagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.mapper.EmployeeMapper;
+import com.ideas2it.employeeManagement.model.Department;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of an employee list response, configured the way Spring
+ * Boot configures the ObjectMapper used by the controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<EmployeeDTO> employeeDTOs;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employeeDTOs = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            Department department = BenchmarkData.department(i % 20);
+            employeeDTOs.add(EmployeeMapper.convertToDTO(BenchmarkData.employee(i, department)));
+        }
+    }
+
+    @Benchmark
+    public void serializeEmployeeList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), employeeDTOs);
+    }
+}
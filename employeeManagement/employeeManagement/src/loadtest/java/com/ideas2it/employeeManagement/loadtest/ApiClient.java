@@ -0,0 +1,129 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP client for the REST API under test. Requests are spread over a number of
+ * simulated clients, named in the header the application is configured to
+ * identify clients by, so admission control sees many clients as it does in
+ * production rather than one very busy one.
+ */
+class ApiClient {
+
+    static final String CLIENT_HEADER = "X-Load-Test-Client";
+
+    private static final int MAX_RETRIES = 20;
+
+    private final HttpClient httpClient;
+
+    private final URI baseUri;
+
+    private final int clients;
+
+    private final Duration timeout;
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong nextClient = new AtomicLong();
+
+    ApiClient(URI baseUri, int clients, Duration timeout, ObjectMapper objectMapper, Executor executor) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(executor)
+                .build();
+        this.baseUri = baseUri;
+        this.clients = clients;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * One call to the API: the method, the path with its query and the body to
+     * send as JSON, if any.
+     */
+    record Call(String method, String path, Object body) {
+
+        static Call get(String path) {
+            return new Call("GET", path, null);
+        }
+    }
+
+    HttpRequest request(Call call) {
+        return request(call.method(), call.path(), "application/json", bodyOf(call.body()));
+    }
+
+    /**
+     * Sends the request and returns the response status. The body is read to the
+     * end and discarded.
+     */
+    int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Sends the call and reads the response as the given type. Rejections by
+     * admission control are retried with a growing pause; any other status
+     * outside 2xx fails.
+     */
+    <T> T exchange(Call call, TypeReference<T> responseType) {
+        return exchange(request(call), responseType);
+    }
+
+    <T> T exchange(String method, String path, String contentType, byte[] body, TypeReference<T> responseType) {
+        return exchange(request(method, path, contentType, HttpRequest.BodyPublishers.ofByteArray(body)), responseType);
+    }
+
+    private <T> T exchange(HttpRequest request, TypeReference<T> responseType) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                int status = response.statusCode();
+                if (status / 100 == 2) {
+                    return objectMapper.readValue(response.body(), responseType);
+                }
+                if ((status != 429 && status != 503) || attempt == MAX_RETRIES) {
+                    throw new IllegalStateException(request.method() + " " + request.uri() + " answered " + status
+                            + ": " + new String(response.body()));
+                }
+                Thread.sleep(50L * attempt);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(request.method() + " " + request.uri() + " interrupted", e);
+        }
+    }
+
+    private HttpRequest request(String method, String path, String contentType, HttpRequest.BodyPublisher body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header(CLIENT_HEADER, "client-" + nextClient.getAndIncrement() % clients)
+                .header("Content-Type", contentType)
+                .header("Accept", "application/json")
+                .method(method, body)
+                .build();
+    }
+
+    private HttpRequest.BodyPublisher bodyOf(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The IDs the scenarios pick from: every live employee, department and project
+ * when the load starts. Keys are picked with the configured skew, so with a
+ * skew above 1 the lowest IDs are hot and the rest progressively colder, as
+ * with real traffic; a skew of 1 picks uniformly.
+ */
+record Dataset(long[] employeeIds, long[] departmentIds, long[] projectIds, double keySkew) {
+
+    static final List<String> PLACES = List.of("Chennai", "Bangalore", "Pune", "Hyderabad", "Coimbatore");
+
+    long employee(SplittableRandom random) {
+        return employeeIds[pick(employeeIds.length, keySkew, random)];
+    }
+
+    long department(SplittableRandom random) {
+        return departmentIds[pick(departmentIds.length, keySkew, random)];
+    }
+
+    long project(SplittableRandom random) {
+        return projectIds[pick(projectIds.length, keySkew, random)];
+    }
+
+    static int pick(int size, double skew, SplittableRandom random) {
+        return (int) (size * Math.pow(random.nextDouble(), skew));
+    }
+
+    static String place(SplittableRandom random) {
+        return PLACES.get(random.nextInt(PLACES.size()));
+    }
+}
@@ -0,0 +1,187 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.BulkImportResultDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Seeds the synthetic dataset through the REST API, so it goes through the same
+ * paths as production data and works against any instance. Departments and
+ * projects are created one by one and employees imported in bulk. Every new
+ * employee is then put in a department and on one or more projects, both picked
+ * with a skew, so some departments and projects are much larger than others.
+ */
+class DatasetSeeder {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final int IMPORT_BATCH_SIZE = 5000;
+
+    private static final int MEMBERSHIP_BATCH_SIZE = 1000;
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    private static final double SIZE_SKEW = 2;
+
+    private final ApiClient apiClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService executor;
+
+    private long memberships;
+
+    DatasetSeeder(ApiClient apiClient, ObjectMapper objectMapper, ExecutorService executor) {
+        this.apiClient = apiClient;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    long memberships() {
+        return memberships;
+    }
+
+    void seed(LoadTestOptions options) {
+        SplittableRandom random = new SplittableRandom(options.randomSeed());
+        long[] departmentIds = new long[options.departments()];
+        for (int i = 0; i < departmentIds.length; i++) {
+            departmentIds[i] = apiClient.exchange(new ApiClient.Call("POST", "/api/departments",
+                    DepartmentDTO.builder().departmentName("Load department " + (i + 1)).build()),
+                    new TypeReference<DepartmentDTO>() { }).getDepartmentId();
+        }
+        long[] projectIds = new long[options.projects()];
+        for (int i = 0; i < projectIds.length; i++) {
+            projectIds[i] = apiClient.exchange(new ApiClient.Call("POST", "/api/projects",
+                    ProjectDTO.builder().projectName("Load project " + (i + 1)).build()),
+                    new TypeReference<ProjectDTO>() { }).getProjectId();
+        }
+
+        LongSet existingEmployeeIds = new LongOpenHashSet(fetchIds("/api/employees", "employeeId"));
+        for (int from = 0; from < options.employees(); from += IMPORT_BATCH_SIZE) {
+            importEmployees(Math.min(IMPORT_BATCH_SIZE, options.employees() - from), random);
+        }
+        LongArrayList employeeIds = new LongArrayList();
+        for (long employeeId : fetchIds("/api/employees", "employeeId")) {
+            if (!existingEmployeeIds.contains(employeeId)) {
+                employeeIds.add(employeeId);
+            }
+        }
+
+        List<Runnable> assignments = new ArrayList<>(employeeIds.size());
+        Map<Long, LongArrayList> projectMembers = new HashMap<>();
+        for (long employeeId : employeeIds) {
+            long departmentId = departmentIds[Dataset.pick(departmentIds.length, SIZE_SKEW, random)];
+            assignments.add(() -> apiClient.exchange(new ApiClient.Call("PUT",
+                    "/api/employees/" + employeeId + "/departments/" + departmentId, null),
+                    new TypeReference<JsonNode>() { }));
+            int projectCount = 1 + random.nextInt(Math.min(options.maxProjectsPerEmployee(), projectIds.length));
+            for (int i = 0; i < projectCount; i++) {
+                long projectId = projectIds[Dataset.pick(projectIds.length, SIZE_SKEW, random)];
+                projectMembers.computeIfAbsent(projectId, id -> new LongArrayList()).add(employeeId);
+            }
+        }
+        projectMembers.forEach((projectId, members) -> {
+            for (int from = 0; from < members.size(); from += MEMBERSHIP_BATCH_SIZE) {
+                List<Long> batch = List.copyOf(members.subList(from,
+                        Math.min(from + MEMBERSHIP_BATCH_SIZE, members.size())));
+                assignments.add(() -> {
+                    JsonNode result = apiClient.exchange(new ApiClient.Call("PUT",
+                            "/api/projects/" + projectId + "/employees", batch), new TypeReference<JsonNode>() { });
+                    synchronized (this) {
+                        memberships += result.path("added").asLong();
+                    }
+                });
+            }
+        });
+        runConcurrently(assignments);
+    }
+
+    /**
+     * Reads every live employee, department and project ID, the seeded ones
+     * among them.
+     */
+    Dataset load(double keySkew) {
+        return new Dataset(fetchIds("/api/employees", "employeeId"),
+                fetchIds("/api/departments", "departmentId"),
+                fetchIds("/api/projects", "projectId"),
+                keySkew);
+    }
+
+    private void importEmployees(int count, SplittableRandom random) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            for (int i = 0; i < count; i++) {
+                EmployeeDTO employee = Scenario.employee(random);
+                objectMapper.writeValue(body, employee);
+                body.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        BulkImportResultDTO result = apiClient.exchange("POST", "/api/employees/bulk", "application/x-ndjson",
+                body.toByteArray(), new TypeReference<>() { });
+        if (result.getImported() != count) {
+            throw new IllegalStateException("Imported " + result.getImported() + " of " + count + " employees: "
+                    + result.getFailures());
+        }
+    }
+
+    private long[] fetchIds(String path, String idField) {
+        LongArrayList ids = new LongArrayList();
+        long after = 0;
+        while (true) {
+            List<JsonNode> page = apiClient.exchange(ApiClient.Call.get(path + "?after=" + after
+                    + "&limit=" + PAGE_SIZE), new TypeReference<>() { });
+            page.forEach(element -> ids.add(element.path(idField).asLong()));
+            if (page.size() < PAGE_SIZE) {
+                return ids.toLongArray();
+            }
+            after = ids.getLong(ids.size() - 1);
+        }
+    }
+
+    private void runConcurrently(List<Runnable> tasks) {
+        Semaphore permits = new Semaphore(CONCURRENT_REQUESTS);
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            permits.acquireUninterruptibly();
+            futures.add(executor.submit(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Seeding interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Seeding failed", e.getCause());
+            }
+        }
+    }
+}
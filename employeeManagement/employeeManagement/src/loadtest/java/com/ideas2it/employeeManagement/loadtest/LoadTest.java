@@ -0,0 +1,176 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.ideas2it.employeeManagement.EmployeeManagementApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>
+ * Load test of the REST API. Starts the application in process against the
+ * configured database, or targets a running instance with {@code --target},
+ * seeds a synthetic dataset, runs a mix of scenarios over the employee,
+ * department and project endpoints at a target rate and writes a JSON report of
+ * throughput and latency percentiles, see {@link LoadTestReport}. Run with
+ * </p>
+ * <pre>
+ *   mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--rps=500 --duration=2m"
+ * </pre>
+ * <p>
+ * The options are listed on {@link LoadTestOptions}. Any other argument is
+ * passed to the application, e.g.
+ * {@code --spring.datasource.url=jdbc:postgresql://localhost:5432/loadtest} to
+ * seed a database of its own, or
+ * {@code --employee-management.admission.enabled=false} to measure without
+ * admission control. Requests are spread over simulated clients named in the
+ * {@value ApiClient#CLIENT_HEADER} header, which the in-process application is
+ * configured to identify clients by; a running instance needs
+ * {@code employee-management.client-header} set to the same.
+ * </p>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        List<String> applicationArgs = new ArrayList<>(List.of("--server.port=0",
+                "--employee-management.reactive.port=0",
+                "--spring.config.location=" + applicationConfigLocation(),
+                "--employee-management.client-header=" + ApiClient.CLIENT_HEADER));
+        LoadTestOptions options = LoadTestOptions.parse(args, applicationArgs);
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+
+        ConfigurableApplicationContext context = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String target = options.target();
+            if (target.isEmpty()) {
+                context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                        .run(applicationArgs.toArray(String[]::new));
+                target = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            }
+            ApiClient apiClient = new ApiClient(URI.create(target), options.clients(), options.timeout(),
+                    objectMapper, executor);
+
+            DatasetSeeder seeder = new DatasetSeeder(apiClient, objectMapper, executor);
+            if (options.seed()) {
+                long seedStart = System.nanoTime();
+                seeder.seed(options);
+                log("Seeded %d departments, %d projects and %d employees in %.1f s", options.departments(),
+                        options.projects(), options.employees(), (System.nanoTime() - seedStart) / 1e9);
+            }
+            Dataset dataset = seeder.load(options.keySkew());
+            if (dataset.employeeIds().length == 0 || dataset.departmentIds().length == 0
+                    || dataset.projectIds().length == 0) {
+                throw new IllegalStateException("The database needs employees, departments and projects to test");
+            }
+
+            log("Running %.0f requests per second against %s for %s after a %s warmup", options.rps(), target,
+                    options.duration(), options.warmup());
+            Instant startedAt = Instant.now();
+            Map<Scenario, OpenModelDriver.Results> results = new OpenModelDriver(apiClient, executor)
+                    .run(dataset, options);
+
+            LoadTestReport report = report(startedAt, target, options, dataset, seeder.memberships(), results);
+            if (!options.baseline().isEmpty()) {
+                report = report.compareTo(objectMapper.readValue(Path.of(options.baseline()).toFile(),
+                        LoadTestReport.class));
+            }
+            write(report, Path.of(options.report()), objectMapper);
+            print(report);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * The directory the application's own configuration was built to. The test
+     * configuration on the same classpath would otherwise replace it.
+     */
+    private static String applicationConfigLocation() throws URISyntaxException {
+        return "file:" + Path.of(EmployeeManagementApplication.class.getProtectionDomain().getCodeSource()
+                .getLocation().toURI()) + "/";
+    }
+
+    private static LoadTestReport report(Instant startedAt, String target, LoadTestOptions options, Dataset dataset,
+                                         long memberships, Map<Scenario, OpenModelDriver.Results> results) {
+        double seconds = options.duration().toNanos() / 1e9;
+        Map<String, LoadTestReport.ScenarioReport> scenarios = new LinkedHashMap<>();
+        Histogram totalLatencies = new Histogram(3);
+        long requests = 0;
+        long succeeded = 0;
+        long rejected = 0;
+        long failed = 0;
+        long dropped = 0;
+        for (Map.Entry<Scenario, OpenModelDriver.Results> entry : results.entrySet()) {
+            OpenModelDriver.Results result = entry.getValue();
+            if (result.requests.sum() == 0) {
+                continue;
+            }
+            scenarios.put(entry.getKey().key(), LoadTestReport.ScenarioReport.of(result.requests.sum(),
+                    result.succeeded.sum(), result.rejected.sum(), result.failed.sum(), result.dropped.sum(),
+                    result.latencies, seconds));
+            totalLatencies.add(result.latencies);
+            requests += result.requests.sum();
+            succeeded += result.succeeded.sum();
+            rejected += result.rejected.sum();
+            failed += result.failed.sum();
+            dropped += result.dropped.sum();
+        }
+        return new LoadTestReport(startedAt, options.label(), target, options,
+                new LoadTestReport.DatasetSize(dataset.departmentIds().length, dataset.projectIds().length,
+                        dataset.employeeIds().length, memberships),
+                LoadTestReport.ScenarioReport.of(requests, succeeded, rejected, failed, dropped, totalLatencies,
+                        seconds),
+                scenarios, Map.of());
+    }
+
+    private static void write(LoadTestReport report, Path path, ObjectMapper objectMapper) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+        log("Report written to %s", path.toAbsolutePath());
+    }
+
+    private static void print(LoadTestReport report) {
+        System.out.printf("%n%-20s %9s %9s %9s %9s %9s %10s %9s %9s %9s %9s%n", "scenario", "requests", "ok",
+                "rejected", "failed", "dropped", "ok/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        report.scenarios().forEach(LoadTest::printRow);
+        printRow("total", report.total());
+        report.comparison().forEach((name, comparison) -> System.out.printf(
+                "%-20s throughput %+.1f%%, p50 %+.1f%%, p99 %+.1f%%, p999 %+.1f%% against the baseline%n",
+                name, comparison.throughput(), comparison.p50(), comparison.p99(), comparison.p999()));
+    }
+
+    private static void printRow(String name, LoadTestReport.ScenarioReport scenario) {
+        System.out.printf("%-20s %9d %9d %9d %9d %9d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name, scenario.requests(),
+                scenario.succeeded(), scenario.rejected(), scenario.failed(), scenario.dropped(),
+                scenario.throughput(), scenario.latencyMillis().p50(), scenario.latencyMillis().p99(),
+                scenario.latencyMillis().p999(), scenario.latencyMillis().max());
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(format + "%n", args);
+    }
+}
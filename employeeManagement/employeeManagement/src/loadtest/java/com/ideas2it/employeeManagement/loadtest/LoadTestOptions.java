@@ -0,0 +1,103 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Settings of a load test run, given as {@code --name=value} arguments. The
+ * settings are written into the report, so two reports can only be compared
+ * when they were produced by the same load.
+ *
+ * @param target URL of a running instance to test; when empty the application is started in process
+ * @param departments departments to seed
+ * @param projects projects to seed
+ * @param employees employees to seed
+ * @param maxProjectsPerEmployee seeded employees are on one up to this many projects
+ * @param seed whether to seed the dataset; when false the data already in the database is used
+ * @param randomSeed seed of the dataset and of the request sequence, so runs send the same requests
+ * @param rps target arrival rate in requests per second
+ * @param warmup time the load runs before measuring starts
+ * @param duration time the load is measured for
+ * @param clients simulated clients the requests are spread over
+ * @param maxInFlight requests in flight above which arrivals are dropped and counted rather than sent
+ * @param timeout connect and response timeout of every request
+ * @param keySkew skew of the IDs requests pick, 1 for uniform
+ * @param mix relative weight of each scenario
+ * @param label free text identifying the build under test
+ * @param report where the JSON report is written
+ * @param baseline an earlier report to compare against, if any
+ */
+record LoadTestOptions(String target, int departments, int projects, int employees, int maxProjectsPerEmployee,
+                       boolean seed, long randomSeed, double rps, Duration warmup, Duration duration, int clients,
+                       int maxInFlight, Duration timeout, double keySkew, Map<String, Integer> mix, String label,
+                       String report, String baseline) {
+
+    private static final Set<String> NAMES = Set.of("target", "departments", "projects", "employees",
+            "max-projects-per-employee", "seed", "random-seed", "rps", "warmup", "duration", "clients",
+            "max-in-flight", "timeout", "key-skew", "mix", "label", "report", "baseline");
+
+    /**
+     * Reads the options from the arguments. Arguments that are not load test
+     * options are added to {@code applicationArgs}, to be passed on to the
+     * application when it is started in process.
+     */
+    static LoadTestOptions parse(String[] args, List<String> applicationArgs) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name != null && NAMES.contains(name)) {
+                values.put(name, arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+        return new LoadTestOptions(
+                values.getOrDefault("target", ""),
+                Integer.parseInt(values.getOrDefault("departments", "20")),
+                Integer.parseInt(values.getOrDefault("projects", "100")),
+                Integer.parseInt(values.getOrDefault("employees", "10000")),
+                Integer.parseInt(values.getOrDefault("max-projects-per-employee", "3")),
+                Boolean.parseBoolean(values.getOrDefault("seed", "true")),
+                Long.parseLong(values.getOrDefault("random-seed", "42")),
+                Double.parseDouble(values.getOrDefault("rps", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("clients", "100")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "1000")),
+                DurationStyle.detectAndParse(values.getOrDefault("timeout", "10s")),
+                Double.parseDouble(values.getOrDefault("key-skew", "2")),
+                parseMix(values.getOrDefault("mix", "")),
+                values.getOrDefault("label", ""),
+                values.getOrDefault("report", "target/loadtest-report.json"),
+                values.getOrDefault("baseline", ""));
+    }
+
+    /**
+     * Reads weights such as {@code employee-by-id=50,create-employee=0} over the
+     * default mix.
+     */
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>(Scenario.defaultMix());
+        for (String weight : value.split(",")) {
+            if (weight.isBlank()) {
+                continue;
+            }
+            String[] parts = weight.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario=weight but got " + weight);
+            }
+            mix.put(Scenario.of(parts[0].trim()).key(), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The mix has no weight");
+        }
+        return mix;
+    }
+}
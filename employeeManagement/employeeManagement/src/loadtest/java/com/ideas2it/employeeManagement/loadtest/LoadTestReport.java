@@ -0,0 +1,82 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The machine-readable outcome of a run, written as JSON. Latencies are in
+ * milliseconds and throughput counts successful responses per second over the
+ * measured duration. When a baseline report is given, {@code comparison} holds
+ * the change of throughput and latency percentiles against it in percent, per
+ * scenario and in total.
+ */
+record LoadTestReport(Instant startedAt, String label, String target, LoadTestOptions options, DatasetSize dataset,
+                      ScenarioReport total, Map<String, ScenarioReport> scenarios,
+                      Map<String, Comparison> comparison) {
+
+    record DatasetSize(int departments, int projects, int employees, long seededMemberships) {
+    }
+
+    record ScenarioReport(long requests, long succeeded, long rejected, long failed, long dropped,
+                          double throughput, Latency latencyMillis) {
+
+        static ScenarioReport of(long requests, long succeeded, long rejected, long failed, long dropped,
+                                 Histogram latencies, double seconds) {
+            return new ScenarioReport(requests, succeeded, rejected, failed, dropped, round(succeeded / seconds),
+                    Latency.of(latencies));
+        }
+    }
+
+    record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static Latency of(Histogram latencies) {
+            return new Latency(millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()),
+                    round(latencies.getMean() / TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+
+        private static double millis(long nanos) {
+            return round((double) nanos / TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    record Comparison(double throughput, double p50, double p99, double p999) {
+
+        static Comparison of(ScenarioReport current, ScenarioReport baseline) {
+            return new Comparison(change(current.throughput(), baseline.throughput()),
+                    change(current.latencyMillis().p50(), baseline.latencyMillis().p50()),
+                    change(current.latencyMillis().p99(), baseline.latencyMillis().p99()),
+                    change(current.latencyMillis().p999(), baseline.latencyMillis().p999()));
+        }
+
+        private static double change(double current, double baseline) {
+            return baseline == 0 ? 0 : round((current - baseline) / baseline * 100);
+        }
+    }
+
+    /**
+     * Compares the scenarios both reports have, and the totals.
+     */
+    LoadTestReport compareTo(LoadTestReport baseline) {
+        Map<String, Comparison> comparisons = new LinkedHashMap<>();
+        comparisons.put("total", Comparison.of(total, baseline.total()));
+        scenarios.forEach((name, scenario) -> {
+            ScenarioReport baselineScenario = baseline.scenarios().get(name);
+            if (baselineScenario != null) {
+                comparisons.put(name, Comparison.of(scenario, baselineScenario));
+            }
+        });
+        return new LoadTestReport(startedAt, label, target, options, dataset, total, scenarios, comparisons);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Drives the load as an open model: requests arrive at the target rate with
+ * exponentially distributed gaps, as a Poisson process, whether or not earlier
+ * requests have completed. A slow server therefore faces a growing queue, as it
+ * would in production, instead of the load backing off with it as a fixed pool
+ * of looping clients would.
+ * </p>
+ * <p>
+ * Each request is sent on its own virtual thread. Latency is measured from the
+ * moment the request was due to be sent, not from when it actually went out, so
+ * delays in the load generator itself are not hidden. Scenarios and their
+ * parameters are drawn from a seeded generator on the arrival thread, so runs
+ * with the same seed send the same sequence of requests.
+ * </p>
+ */
+class OpenModelDriver {
+
+    private final ApiClient apiClient;
+
+    private final ExecutorService executor;
+
+    OpenModelDriver(ApiClient apiClient, ExecutorService executor) {
+        this.apiClient = apiClient;
+        this.executor = executor;
+    }
+
+    /**
+     * Outcomes and latencies of one scenario over the measured part of the run.
+     * Latencies are in nanoseconds and only recorded for successful responses.
+     */
+    static class Results {
+
+        final Histogram latencies = new ConcurrentHistogram(3);
+
+        final LongAdder requests = new LongAdder();
+
+        final LongAdder succeeded = new LongAdder();
+
+        final LongAdder rejected = new LongAdder();
+
+        final LongAdder failed = new LongAdder();
+
+        final LongAdder dropped = new LongAdder();
+
+        void record(int status, long latencyNanos) {
+            if (status / 100 == 2 || status == 304) {
+                succeeded.increment();
+                latencies.recordValue(latencyNanos);
+            } else if (status == 429 || status == 503) {
+                rejected.increment();
+            } else {
+                failed.increment();
+            }
+        }
+    }
+
+    Map<Scenario, Results> run(Dataset dataset, LoadTestOptions options) throws InterruptedException {
+        Map<Scenario, Results> results = new EnumMap<>(Scenario.class);
+        Scenario[] scenarios = Scenario.values();
+        int[] cumulativeWeights = new int[scenarios.length];
+        int totalWeight = 0;
+        for (Scenario scenario : scenarios) {
+            results.put(scenario, new Results());
+            totalWeight += options.mix().getOrDefault(scenario.key(), 0);
+            cumulativeWeights[scenario.ordinal()] = totalWeight;
+        }
+
+        SplittableRandom random = new SplittableRandom(options.randomSeed());
+        AtomicInteger inFlight = new AtomicInteger();
+        double meanGapNanos = 1e9 / options.rps();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long due = start;
+        while (true) {
+            due += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (due >= end) {
+                break;
+            }
+            Scenario scenario = pick(scenarios, cumulativeWeights, random.nextInt(totalWeight));
+            HttpRequest request = apiClient.request(scenario.call(dataset, random));
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            Results scenarioResults = due >= measureFrom ? results.get(scenario) : null;
+            if (scenarioResults != null) {
+                scenarioResults.requests.increment();
+            }
+            if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                inFlight.decrementAndGet();
+                if (scenarioResults != null) {
+                    scenarioResults.dropped.increment();
+                }
+                continue;
+            }
+            long requestDue = due;
+            executor.execute(() -> {
+                try {
+                    int status = apiClient.send(request);
+                    if (scenarioResults != null) {
+                        scenarioResults.record(status, System.nanoTime() - requestDue);
+                    }
+                } catch (IOException e) {
+                    if (scenarioResults != null) {
+                        scenarioResults.failed.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+        while (inFlight.get() > 0) {
+            Thread.sleep(10);
+        }
+        return results;
+    }
+
+    private static Scenario pick(Scenario[] scenarios, int[] cumulativeWeights, int value) {
+        for (Scenario scenario : scenarios) {
+            if (value < cumulativeWeights[scenario.ordinal()]) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("No scenario for " + value);
+    }
+}
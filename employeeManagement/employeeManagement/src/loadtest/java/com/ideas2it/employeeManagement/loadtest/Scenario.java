@@ -0,0 +1,121 @@
+package com.ideas2it.employeeManagement.loadtest;
+
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The requests the load is mixed from, with the share of the load each gets
+ * by default. Reads dominate, as they do in production.
+ */
+enum Scenario {
+
+    EMPLOYEE_BY_ID(35) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return ApiClient.Call.get("/api/employees/" + dataset.employee(random));
+        }
+    },
+    EMPLOYEE_PAGE(10) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return ApiClient.Call.get("/api/employees?after=" + dataset.employee(random) + "&limit=50");
+        }
+    },
+    EMPLOYEE_FILTER(10) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return ApiClient.Call.get("/api/employees/filter?place=" + Dataset.place(random)
+                    + "&minSalary=" + (30000 + random.nextInt(60) * 1000) + "&sort=salary,desc");
+        }
+    },
+    DEPARTMENT_BY_ID(10) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return ApiClient.Call.get("/api/departments/" + dataset.department(random));
+        }
+    },
+    DEPARTMENT_STATS(5) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return ApiClient.Call.get("/api/departments/" + dataset.department(random) + "/stats");
+        }
+    },
+    PROJECT_BY_ID(5) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return ApiClient.Call.get("/api/projects/" + dataset.project(random));
+        }
+    },
+    PROJECT_EMPLOYEES(10) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return ApiClient.Call.get("/api/projects/" + dataset.project(random) + "/employees?page=0&size=20");
+        }
+    },
+    CREATE_EMPLOYEE(5) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return new ApiClient.Call("POST", "/api/employees", employee(random));
+        }
+    },
+    UPDATE_EMPLOYEE(5) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return new ApiClient.Call("PUT", "/api/employees/" + dataset.employee(random), employee(random));
+        }
+    },
+    ASSIGN_PROJECT(5) {
+        @Override
+        ApiClient.Call call(Dataset dataset, SplittableRandom random) {
+            return new ApiClient.Call("PUT", "/api/employees/" + dataset.employee(random)
+                    + "/projects/" + dataset.project(random), null);
+        }
+    };
+
+    private final int defaultWeight;
+
+    Scenario(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    abstract ApiClient.Call call(Dataset dataset, SplittableRandom random);
+
+    /**
+     * The name used in options and reports, e.g. {@code employee-by-id}.
+     */
+    String key() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    static Scenario of(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key().equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario " + key + ", expected one of "
+                        + Arrays.stream(values()).map(Scenario::key).toList()));
+    }
+
+    static Map<String, Integer> defaultMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (Scenario scenario : values()) {
+            mix.put(scenario.key(), scenario.defaultWeight);
+        }
+        return mix;
+    }
+
+    static EmployeeDTO employee(SplittableRandom random) {
+        int index = random.nextInt(1_000_000);
+        return EmployeeDTO.builder()
+                .employeeName("Load employee " + index)
+                .place(Dataset.place(random))
+                .dateOfBirth(LocalDate.of(1970, 1, 1).plusDays(random.nextInt(12000)))
+                .experience(random.nextInt(30))
+                .salary(30000 + random.nextInt(100) * 1000)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ideas2it.employeeManagement.admission.admissionDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * The current concurrency limit of one endpoint group, the requests running
+ * in it, the recent and baseline latency the limit follows, and how many
+ * requests it has admitted and shed since startup.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdmissionGroupStatsDTO {
+    private String group;
+    private int limit;
+    private int inFlight;
+    private double shortTermLatencyMillis;
+    private double baselineLatencyMillis;
+    private long admitted;
+    private long shed;
+}
@@ -0,0 +1,28 @@
+package com.ideas2it.employeeManagement.admission.admissionDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * <p>
+ * State of the admission control in front of the REST API: the clients being
+ * rate limited, the requests rejected for exceeding their rate, and the
+ * concurrency limits of each endpoint group.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdmissionStatsDTO {
+    private boolean enabled;
+    private long trackedClients;
+    private long rateLimited;
+    private List<AdmissionGroupStatsDTO> groups;
+}
@@ -0,0 +1,99 @@
+package com.ideas2it.employeeManagement.admission.config;
+
+import com.ideas2it.employeeManagement.admission.service.Admission;
+import com.ideas2it.employeeManagement.admission.service.AdmissionControlService;
+import com.ideas2it.employeeManagement.common.ClientIdResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>
+ * Admission control in front of the employee, department and project
+ * endpoints. Each request is identified by client and sorted into an endpoint
+ * group, {@code <resource>.list} for the unbounded list and export reads,
+ * {@code <resource>.read} for the other reads and {@code <resource>.write} for
+ * changes, and is let through only when {@link AdmissionControlService} admits
+ * it. Rejected requests are answered straight away with 429 or 503 and a
+ * {@code Retry-After} header, before any controller or connection is involved.
+ * </p>
+ * <p>
+ * Clients are told apart by {@link ClientIdResolver}.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final List<String> RESOURCES = List.of("employees", "departments", "projects");
+
+    private static final String API_PREFIX = "/api/";
+
+    @Autowired
+    private AdmissionControlService admissionControlService;
+
+    @Autowired
+    private ClientIdResolver clientIdResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !admissionControlService.isEnabled() || resourceOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Admission admission = admissionControlService.admit(clientIdResolver.resolve(request), groupOf(request));
+        if (!admission.isAdmitted()) {
+            response.setStatus(admission.getRejection().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(admission.getRetryAfterSeconds()));
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admission.release(System.nanoTime() - start);
+        }
+    }
+
+    private static String groupOf(HttpServletRequest request) {
+        String resource = resourceOf(request);
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return resource + ".write";
+        }
+        String rest = pathOf(request).substring(API_PREFIX.length() + resource.length());
+        return rest.isEmpty() || rest.equals("/") || rest.equals("/stream") ? resource + ".list" : resource + ".read";
+    }
+
+    private static String resourceOf(HttpServletRequest request) {
+        String path = pathOf(request);
+        if (!path.startsWith(API_PREFIX)) {
+            return null;
+        }
+        for (String resource : RESOURCES) {
+            if (path.startsWith(resource, API_PREFIX.length())
+                    && (path.length() == API_PREFIX.length() + resource.length()
+                    || path.charAt(API_PREFIX.length() + resource.length()) == '/')) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
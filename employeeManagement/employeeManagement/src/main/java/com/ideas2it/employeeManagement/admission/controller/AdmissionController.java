@@ -0,0 +1,21 @@
+package com.ideas2it.employeeManagement.admission.controller;
+
+import com.ideas2it.employeeManagement.admission.admissionDTO.AdmissionStatsDTO;
+import com.ideas2it.employeeManagement.admission.service.AdmissionControlService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admission")
+public class AdmissionController {
+
+    @Autowired
+    private AdmissionControlService admissionControlService;
+
+    @GetMapping("/stats")
+    public AdmissionStatsDTO getStats() {
+        return admissionControlService.getStats();
+    }
+}
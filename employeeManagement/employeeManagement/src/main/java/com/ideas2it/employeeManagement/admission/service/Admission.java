@@ -0,0 +1,58 @@
+package com.ideas2it.employeeManagement.admission.service;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * <p>
+ * The outcome of asking {@link AdmissionControlService} to let a request in.
+ * An admitted request must be {@linkplain #release(long) released}
+ * once it has completed; a rejected one carries the status to answer with and
+ * the number of seconds the client should wait before retrying.
+ * </p>
+ */
+public final class Admission {
+
+    private static final Admission UNLIMITED = new Admission(null, null, 0);
+
+    private final ConcurrencyLimiter limiter;
+
+    private final HttpStatus rejection;
+
+    private final long retryAfterSeconds;
+
+    private Admission(ConcurrencyLimiter limiter, HttpStatus rejection, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.rejection = rejection;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    static Admission unlimited() {
+        return UNLIMITED;
+    }
+
+    static Admission admitted(ConcurrencyLimiter limiter) {
+        return new Admission(limiter, null, 0);
+    }
+
+    static Admission rejected(HttpStatus status, long retryAfterSeconds) {
+        return new Admission(null, status, retryAfterSeconds);
+    }
+
+    public boolean isAdmitted() {
+        return rejection == null;
+    }
+
+    public HttpStatus getRejection() {
+        return rejection;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void release(long latencyNanos) {
+        if (limiter != null) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
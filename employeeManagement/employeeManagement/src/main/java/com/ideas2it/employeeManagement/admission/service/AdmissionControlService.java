@@ -0,0 +1,160 @@
+package com.ideas2it.employeeManagement.admission.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ideas2it.employeeManagement.admission.admissionDTO.AdmissionGroupStatsDTO;
+import com.ideas2it.employeeManagement.admission.admissionDTO.AdmissionStatsDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Decides whether a request to the REST API is let in. A client first needs a
+ * token from its own token bucket, or is turned away with 429 Too Many Requests
+ * and the time until its next token. The request then needs a slot under the
+ * adaptive concurrency limit of its endpoint group, or is shed with 503 Service
+ * Unavailable, so a spike of slow list reads cannot take all the pooled
+ * connections from the cheap lookups and writes. A shed request gives its
+ * token back, so the client is not charged for load it did not cause.
+ * </p>
+ * <p>
+ * Buckets are kept for the most recently seen clients only, and forgotten after
+ * a while without requests. Shed requests are counted as
+ * {@code employee_management.admission.shed}, tagged with the reason and
+ * group, next to gauges of each group's limit and requests in flight.
+ * </p>
+ * <p>
+ * Admission control is opt-in through
+ * {@code employee-management.admission.enabled}. Behind a proxy, set
+ * {@code employee-management.client-header} to the header carrying the
+ * client's identity, or every request counts against the proxy's bucket.
+ * </p>
+ */
+@Service
+public class AdmissionControlService {
+
+    private static final String METER = "employee_management.admission";
+
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    @Value("${employee-management.admission.enabled:false}")
+    private boolean enabled;
+
+    @Value("${employee-management.admission.rate-per-second:50}")
+    private double ratePerSecond;
+
+    @Value("${employee-management.admission.burst:100}")
+    private double burst;
+
+    @Value("${employee-management.admission.client-idle-timeout:10m}")
+    private Duration clientIdleTimeout;
+
+    @Value("${employee-management.admission.concurrency.initial-limit:2}")
+    private int initialLimit;
+
+    @Value("${employee-management.admission.concurrency.min-limit:1}")
+    private int minLimit;
+
+    @Value("${employee-management.admission.concurrency.max-limit:40}")
+    private int maxLimit;
+
+    @Value("${employee-management.admission.concurrency.latency-tolerance:3.0}")
+    private double latencyTolerance;
+
+    @Value("${employee-management.admission.concurrency.backoff:0.9}")
+    private double backoff;
+
+    @Value("${employee-management.admission.concurrency.latency-floor:5ms}")
+    private Duration latencyFloor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    public void createBuckets() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .expireAfterAccess(clientIdleTimeout)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Admission admit(String clientId, String group) {
+        if (!enabled) {
+            return Admission.unlimited();
+        }
+        TokenBucket bucket = buckets.get(clientId, id -> new TokenBucket(burst, ratePerSecond));
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos > 0) {
+            shedCounter("rate_limited", group).increment();
+            return Admission.rejected(HttpStatus.TOO_MANY_REQUESTS,
+                    Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1))));
+        }
+        ConcurrencyLimiter limiter = limiters.computeIfAbsent(group, this::createLimiter);
+        if (!limiter.tryAcquire()) {
+            bucket.refund();
+            shedCounter("overloaded", group).increment();
+            return Admission.rejected(HttpStatus.SERVICE_UNAVAILABLE, 1);
+        }
+        return Admission.admitted(limiter);
+    }
+
+    public AdmissionStatsDTO getStats() {
+        return AdmissionStatsDTO.builder()
+                .enabled(enabled)
+                .trackedClients(buckets.estimatedSize())
+                .rateLimited((long) meterRegistry.find(METER + ".shed").tag("reason", "rate_limited")
+                        .counters().stream().mapToDouble(Counter::count).sum())
+                .groups(limiters.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey())
+                        .map(entry -> toDTO(entry.getKey(), entry.getValue()))
+                        .toList())
+                .build();
+    }
+
+    private ConcurrencyLimiter createLimiter(String group) {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyTolerance, backoff,
+                latencyFloor.toNanos());
+        Gauge.builder(METER + ".limit", limiter, ConcurrencyLimiter::getLimit)
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder(METER + ".in_flight", limiter, ConcurrencyLimiter::getInFlight)
+                .tag("group", group)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private Counter shedCounter(String reason, String group) {
+        return meterRegistry.counter(METER + ".shed", "reason", reason, "group", group);
+    }
+
+    private static AdmissionGroupStatsDTO toDTO(String group, ConcurrencyLimiter limiter) {
+        return AdmissionGroupStatsDTO.builder()
+                .group(group)
+                .limit(limiter.getLimit())
+                .inFlight(limiter.getInFlight())
+                .shortTermLatencyMillis(limiter.getShortTermMillis())
+                .baselineLatencyMillis(limiter.getBaselineMillis())
+                .admitted(limiter.getAdmitted())
+                .shed(limiter.getRejected())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ideas2it.employeeManagement.admission.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Caps the number of requests of one endpoint group running at the same time,
+ * with a limit that follows the observed latency (additive increase,
+ * multiplicative decrease). Every completed request feeds its latency into a
+ * short-term moving average, which is compared with the group's baseline: the
+ * lowest latency seen, allowed to creep up slowly so that it follows the
+ * endpoint when its data grows.
+ * </p>
+ * <p>
+ * While the average stays within {@code tolerance} times the baseline, or under
+ * the latency floor, the limit grows by about one per limit's worth of requests,
+ * as long as the requests actually use it. Above that, requests are queueing
+ * behind the limiter, typically for pooled connections, and the limit is cut by
+ * {@code backoff}, at most once per average latency. A limit cut down to a few
+ * requests lets them run without queueing, which brings the baseline back to the
+ * endpoint's unloaded latency.
+ * </p>
+ */
+class ConcurrencyLimiter {
+
+    private static final double SHORT_TERM_WEIGHT = 0.2;
+
+    private static final double BASELINE_DRIFT = 1.001;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double tolerance;
+
+    private final double backoff;
+
+    private final long latencyFloorNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder admitted = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+
+    private double shortTermNanos;
+
+    private double baselineNanos;
+
+    private long decreasedAt;
+
+    ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoff,
+                       long latencyFloorNanos) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoff = backoff;
+        this.latencyFloorNanos = latencyFloorNanos;
+    }
+
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        admitted.increment();
+        return true;
+    }
+
+    /**
+     * Ends a request admitted by {@link #tryAcquire()} and adjusts the limit to
+     * its latency.
+     */
+    synchronized void release(long latencyNanos) {
+        int running = inFlight.getAndDecrement();
+        if (baselineNanos == 0) {
+            shortTermNanos = latencyNanos;
+            baselineNanos = latencyNanos;
+        } else {
+            shortTermNanos += SHORT_TERM_WEIGHT * (latencyNanos - shortTermNanos);
+            baselineNanos = Math.min(latencyNanos, baselineNanos * BASELINE_DRIFT);
+        }
+        if (shortTermNanos > Math.max(tolerance * baselineNanos, latencyFloorNanos)) {
+            long now = System.nanoTime();
+            if (now - decreasedAt > shortTermNanos) {
+                limit = Math.max(minLimit, limit * backoff);
+                decreasedAt = now;
+            }
+        } else if (running * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getAdmitted() {
+        return admitted.sum();
+    }
+
+    long getRejected() {
+        return rejected.sum();
+    }
+
+    synchronized double getShortTermMillis() {
+        return shortTermNanos / 1_000_000d;
+    }
+
+    synchronized double getBaselineMillis() {
+        return baselineNanos / 1_000_000d;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ideas2it.employeeManagement.admission.service;
+
+/**
+ * <p>
+ * A token bucket holding up to {@code capacity} tokens and refilled at a steady
+ * rate. Each admitted request takes one token, so a client can burst up to the
+ * capacity and is then held to the refill rate.
+ * </p>
+ */
+class TokenBucket {
+
+    private final double capacity;
+
+    private final double tokensPerNano;
+
+    private double tokens;
+
+    private long refilledAt;
+
+    TokenBucket(double capacity, double tokensPerSecond) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Takes a token if one is available and returns 0, otherwise returns how
+     * many nanoseconds it takes until the next token is available.
+     */
+    synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    /**
+     * Gives back a token taken by a request that was not let in after all.
+     */
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+}
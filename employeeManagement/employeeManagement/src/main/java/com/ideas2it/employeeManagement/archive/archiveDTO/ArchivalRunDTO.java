@@ -0,0 +1,33 @@
+package com.ideas2it.employeeManagement.archive.archiveDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ * One run of the archival job: the rows it moved out of each live table, the
+ * chunks they were moved in, how long it took, and the error that stopped it
+ * early, if any.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivalRunDTO {
+    private Instant startedAt;
+    private long durationMillis;
+    private Instant cutoff;
+    private long employees;
+    private long departments;
+    private long projects;
+    private long employeeProjectLinks;
+    private int chunks;
+    private String error;
+}
@@ -0,0 +1,28 @@
+package com.ideas2it.employeeManagement.archive.archiveDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ * State of the archival job: its settings, whether it is running now, and the
+ * last run it completed.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivalStatusDTO {
+    private boolean enabled;
+    private Duration retention;
+    private int chunkSize;
+    private boolean running;
+    private ArchivalRunDTO lastRun;
+}
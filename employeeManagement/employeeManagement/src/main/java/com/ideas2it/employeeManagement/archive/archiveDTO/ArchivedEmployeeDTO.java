@@ -0,0 +1,36 @@
+package com.ideas2it.employeeManagement.archive.archiveDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * <p>
+ * An archived employee as it was when it was deleted, with the department and
+ * projects it belonged to, and when it was deleted and archived.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivedEmployeeDTO {
+    private Long employeeId;
+    private String employeeName;
+    private String place;
+    private LocalDate dateOfBirth;
+    private Integer experience;
+    private Double salary;
+    private Long departmentId;
+    private String departmentName;
+    private List<Long> projectIds;
+    private Instant deletedAt;
+    private Instant archivedAt;
+}
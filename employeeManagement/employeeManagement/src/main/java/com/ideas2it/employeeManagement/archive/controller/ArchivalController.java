@@ -0,0 +1,37 @@
+package com.ideas2it.employeeManagement.archive.controller;
+
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivalRunDTO;
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivalStatusDTO;
+import com.ideas2it.employeeManagement.archive.service.ArchivalService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the archival job: its status and last run, and running
+ * it on demand. A run requested while another is in progress answers 409
+ * Conflict.
+ */
+@RestController
+@RequestMapping("/api/archive")
+public class ArchivalController {
+
+    @Autowired
+    private ArchivalService archivalService;
+
+    @GetMapping("/status")
+    public ArchivalStatusDTO getStatus() {
+        return archivalService.getStatus();
+    }
+
+    @PostMapping("/runs")
+    public ResponseEntity<ArchivalRunDTO> run() {
+        return archivalService.run()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.CONFLICT));
+    }
+}
@@ -0,0 +1,31 @@
+package com.ideas2it.employeeManagement.archive.controller;
+
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivedEmployeeDTO;
+import com.ideas2it.employeeManagement.archive.service.ArchivalService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for looking up employees that have been moved to the archive.
+ * An employee that was deleted but not archived yet is still found by
+ * neither this nor the live endpoints, and answers 404 Not Found.
+ */
+@RestController
+@RequestMapping("/api/employees/archived")
+public class ArchivedEmployeeController {
+
+    @Autowired
+    private ArchivalService archivalService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedEmployeeDTO> getArchivedEmployee(@PathVariable Long id) {
+        return archivalService.getArchivedEmployee(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+}
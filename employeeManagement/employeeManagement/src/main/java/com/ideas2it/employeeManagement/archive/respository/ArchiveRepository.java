@@ -0,0 +1,124 @@
+package com.ideas2it.employeeManagement.archive.respository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * Moves soft-deleted employees, departments and projects, and the
+ * "employee_project" links of the employees and projects, into their archive
+ * tables with plain JDBC. Each move copies the rows with one INSERT ... SELECT
+ * and deletes them with one DELETE, for the IDs locked by the matching
+ * {@code lock...} query in the same transaction.
+ * </p>
+ * <p>
+ * A department is archived only once no employee refers to it any more, so its
+ * deleted employees are archived first.
+ * </p>
+ */
+@Repository
+public class ArchiveRepository {
+
+    private static final String LOCK_EMPLOYEES = "select employee_id from employees "
+            + "where is_deleted = true and deleted_at < ? order by employee_id limit ? for update";
+
+    private static final String LOCK_PROJECTS = "select project_id from projects "
+            + "where is_deleted = true and deleted_at < ? order by project_id limit ? for update";
+
+    private static final String LOCK_DEPARTMENTS = "select department_id from departments d "
+            + "where d.is_deleted = true and d.deleted_at < ? "
+            + "and not exists (select 1 from employees e where e.department_id = d.department_id) "
+            + "order by d.department_id limit ? for update";
+
+    private static final String ARCHIVE_LINKS = "insert into employee_project_archive (employee_id, project_id, archived_at) "
+            + "select employee_id, project_id, :archivedAt from employee_project ";
+
+    private static final String ARCHIVE_EMPLOYEES = "insert into employees_archive (employee_id, employee_name, place, "
+            + "date_of_birth, experience, salary, department_id, department_name, version, deleted_at, archived_at) "
+            + "select e.employee_id, e.employee_name, e.place, e.date_of_birth, e.experience, e.salary, e.department_id, "
+            + "d.department_name, e.version, e.deleted_at, :archivedAt "
+            + "from employees e left join departments d on d.department_id = e.department_id "
+            + "where e.employee_id in (:ids)";
+
+    private static final String ARCHIVE_PROJECTS = "insert into projects_archive (project_id, project_name, version, "
+            + "deleted_at, archived_at) select project_id, project_name, version, deleted_at, :archivedAt "
+            + "from projects where project_id in (:ids)";
+
+    private static final String ARCHIVE_DEPARTMENTS = "insert into departments_archive (department_id, department_name, "
+            + "version, deleted_at, archived_at) select department_id, department_name, version, deleted_at, :archivedAt "
+            + "from departments where department_id in (:ids)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Locks up to {@code limit} employees deleted before the cutoff, in ID order,
+     * until the calling transaction ends. Employees archived meanwhile by another
+     * instance are skipped once its transaction has committed.
+     */
+    public List<Long> lockArchivableEmployees(Instant cutoff, int limit) {
+        return jdbcTemplate.queryForList(LOCK_EMPLOYEES, Long.class, Timestamp.from(cutoff), limit);
+    }
+
+    public List<Long> lockArchivableProjects(Instant cutoff, int limit) {
+        return jdbcTemplate.queryForList(LOCK_PROJECTS, Long.class, Timestamp.from(cutoff), limit);
+    }
+
+    public List<Long> lockArchivableDepartments(Instant cutoff, int limit) {
+        return jdbcTemplate.queryForList(LOCK_DEPARTMENTS, Long.class, Timestamp.from(cutoff), limit);
+    }
+
+    /**
+     * Archives the employees and their project links. Returns the number of
+     * links moved.
+     */
+    public int archiveEmployees(Collection<Long> employeeIds, Instant archivedAt) {
+        MapSqlParameterSource parameters = parameters(employeeIds, archivedAt);
+        int links = namedParameterJdbcTemplate.update(ARCHIVE_LINKS + "where employee_id in (:ids)", parameters);
+        namedParameterJdbcTemplate.update("delete from employee_project where employee_id in (:ids)", parameters);
+        namedParameterJdbcTemplate.update(ARCHIVE_EMPLOYEES, parameters);
+        namedParameterJdbcTemplate.update("delete from employees where employee_id in (:ids)", parameters);
+        return links;
+    }
+
+    /**
+     * Archives the projects and the links of their remaining members. Returns
+     * the number of links moved.
+     */
+    public int archiveProjects(Collection<Long> projectIds, Instant archivedAt) {
+        MapSqlParameterSource parameters = parameters(projectIds, archivedAt);
+        int links = namedParameterJdbcTemplate.update(ARCHIVE_LINKS + "where project_id in (:ids)", parameters);
+        namedParameterJdbcTemplate.update("delete from employee_project where project_id in (:ids)", parameters);
+        namedParameterJdbcTemplate.update(ARCHIVE_PROJECTS, parameters);
+        namedParameterJdbcTemplate.update("delete from projects where project_id in (:ids)", parameters);
+        return links;
+    }
+
+    /**
+     * Archives the departments, dropping their statistics rows, which only ever
+     * describe live departments.
+     */
+    public void archiveDepartments(Collection<Long> departmentIds, Instant archivedAt) {
+        MapSqlParameterSource parameters = parameters(departmentIds, archivedAt);
+        namedParameterJdbcTemplate.update("delete from department_stats where department_id in (:ids)", parameters);
+        namedParameterJdbcTemplate.update(ARCHIVE_DEPARTMENTS, parameters);
+        namedParameterJdbcTemplate.update("delete from departments where department_id in (:ids)", parameters);
+    }
+
+    private static MapSqlParameterSource parameters(Collection<Long> ids, Instant archivedAt) {
+        return new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.from(archivedAt));
+    }
+}
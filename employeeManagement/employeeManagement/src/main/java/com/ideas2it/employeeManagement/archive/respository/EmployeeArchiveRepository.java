@@ -0,0 +1,21 @@
+package com.ideas2it.employeeManagement.archive.respository;
+
+import com.ideas2it.employeeManagement.model.EmployeeArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Repository for looking up archived employees, and the projects they were on
+ * when they were archived.
+ * </p>
+ */
+public interface EmployeeArchiveRepository extends JpaRepository<EmployeeArchive, Long> {
+
+    @Query(value = "select project_id from employee_project_archive where employee_id = :employeeId "
+            + "order by project_id", nativeQuery = true)
+    List<Long> findProjectIds(@Param("employeeId") Long employeeId);
+}
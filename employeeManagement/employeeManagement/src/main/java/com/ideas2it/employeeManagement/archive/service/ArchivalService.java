@@ -0,0 +1,187 @@
+package com.ideas2it.employeeManagement.archive.service;
+
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivalRunDTO;
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivalStatusDTO;
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivedEmployeeDTO;
+import com.ideas2it.employeeManagement.archive.respository.ArchiveRepository;
+import com.ideas2it.employeeManagement.archive.respository.EmployeeArchiveRepository;
+import com.ideas2it.employeeManagement.mapper.EmployeeArchiveMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>
+ * Moves employees, departments and projects that were soft-deleted longer than
+ * the retention ago out of the live tables and into their archive tables, so
+ * the live tables and their indexes hold little more than live rows. The
+ * employee_project links of archived employees and projects move with them.
+ * </p>
+ * <p>
+ * Rows are moved in chunks of the configured size, each in its own
+ * transaction, so a run never holds locks on more than one chunk or rolls back
+ * more than one chunk on failure. Runs on a schedule when enabled, and on
+ * demand. Rows moved are counted as {@code employee_management.archive.rows},
+ * tagged with the table, and each run is timed as
+ * {@code employee_management.archive.run}.
+ * </p>
+ */
+@Service
+public class ArchivalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchivalService.class);
+
+    private static final String METER = "employee_management.archive";
+
+    @Value("${employee-management.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${employee-management.archive.retention:30d}")
+    private Duration retention;
+
+    @Value("${employee-management.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Autowired
+    private ArchiveRepository archiveRepository;
+
+    @Autowired
+    private EmployeeArchiveRepository employeeArchiveRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private volatile ArchivalRunDTO lastRun;
+
+    private Timer runTimer;
+
+    @PostConstruct
+    public void registerMeters() {
+        runTimer = Timer.builder(METER + ".run").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${employee-management.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${employee-management.archive.interval-ms:3600000}")
+    public void runScheduled() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * Archives everything due, unless a run is already in progress, in which
+     * case nothing is done and nothing returned.
+     */
+    public Optional<ArchivalRunDTO> run() {
+        if (!runLock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            long start = System.nanoTime();
+            Instant startedAt = Instant.now();
+            Instant cutoff = startedAt.minus(retention);
+            ArchivalRunDTO run = ArchivalRunDTO.builder()
+                    .startedAt(startedAt)
+                    .cutoff(cutoff)
+                    .build();
+            try {
+                run.setEmployees(archiveInChunks("employees", run,
+                        () -> archiveRepository.lockArchivableEmployees(cutoff, chunkSize),
+                        ids -> archiveRepository.archiveEmployees(ids, startedAt)));
+                run.setProjects(archiveInChunks("projects", run,
+                        () -> archiveRepository.lockArchivableProjects(cutoff, chunkSize),
+                        ids -> archiveRepository.archiveProjects(ids, startedAt)));
+                run.setDepartments(archiveInChunks("departments", run,
+                        () -> archiveRepository.lockArchivableDepartments(cutoff, chunkSize),
+                        ids -> {
+                            archiveRepository.archiveDepartments(ids, startedAt);
+                            return 0;
+                        }));
+            } catch (RuntimeException e) {
+                logger.warn("Archival stopped after {} chunks", run.getChunks(), e);
+                run.setError(e.getMessage());
+            }
+            long durationNanos = System.nanoTime() - start;
+            runTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+            run.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+            if (run.getChunks() > 0) {
+                logger.info("Archived {} employees, {} projects, {} departments and {} project links deleted before {} "
+                                + "in {} ms", run.getEmployees(), run.getProjects(), run.getDepartments(),
+                        run.getEmployeeProjectLinks(), cutoff, run.getDurationMillis());
+            }
+            lastRun = run;
+            return Optional.of(run);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Locks and archives chunk after chunk until a chunk comes back short.
+     * Returns the number of rows archived; the links moved along with them are
+     * added to the run.
+     */
+    private long archiveInChunks(String table, ArchivalRunDTO run, Supplier<List<Long>> lockChunk,
+                                 ToIntFunction<List<Long>> archiveChunk) {
+        long rows = 0;
+        while (true) {
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = lockChunk.get();
+                return new Chunk(ids.size(), ids.isEmpty() ? 0 : archiveChunk.applyAsInt(ids));
+            });
+            if (chunk.rows() == 0) {
+                return rows;
+            }
+            rows += chunk.rows();
+            run.setChunks(run.getChunks() + 1);
+            run.setEmployeeProjectLinks(run.getEmployeeProjectLinks() + chunk.links());
+            meterRegistry.counter(METER + ".rows", "table", table).increment(chunk.rows());
+            meterRegistry.counter(METER + ".rows", "table", "employee_project").increment(chunk.links());
+            if (chunk.rows() < chunkSize) {
+                return rows;
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ArchivedEmployeeDTO> getArchivedEmployee(Long employeeId) {
+        return employeeArchiveRepository.findById(employeeId)
+                .map(employeeArchive -> EmployeeArchiveMapper.convertToDTO(employeeArchive,
+                        employeeArchiveRepository.findProjectIds(employeeId)));
+    }
+
+    public ArchivalStatusDTO getStatus() {
+        return ArchivalStatusDTO.builder()
+                .enabled(enabled)
+                .retention(retention)
+                .chunkSize(chunkSize)
+                .running(runLock.isLocked())
+                .lastRun(lastRun)
+                .build();
+    }
+
+    private record Chunk(int rows, int links) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.ideas2it.employeeManagement.changefeed.changeFeedDTO;
+
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ * A change as sent to feed consumers. It names the entity and what happened to
+ * it; consumers read the current state of the entity from its own endpoint.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeEventDTO {
+    private long sequence;
+    private ChangeEvent.EntityType entityType;
+    private long entityId;
+    private ChangeEvent.Operation operation;
+    private Instant occurredAt;
+}
@@ -0,0 +1,26 @@
+package com.ideas2it.employeeManagement.changefeed.changeFeedDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * <p>
+ * One page of the change feed. {@code nextSequence} is the value to pass as
+ * {@code since} on the next request: the sequence of the last change in the page,
+ * or the requested {@code since} when there were no changes.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeFeedPageDTO {
+    private List<ChangeEventDTO> changes;
+    private long nextSequence;
+}
@@ -0,0 +1,82 @@
+package com.ideas2it.employeeManagement.changefeed.controller;
+
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeFeedPageDTO;
+import com.ideas2it.employeeManagement.changefeed.service.ChangeFeedDispatcher;
+import com.ideas2it.employeeManagement.changefeed.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * REST controller for the change feed of employee, department and project
+ * mutations.
+ *
+ * <p>
+ * {@code /api/changes?since=42} answers the changes after sequence 42, oldest
+ * first, with the sequence to ask from next. With {@code wait=<seconds>} an
+ * empty answer is held back until a change arrives or the wait is over.
+ * {@code /api/changes/stream} sends the same changes as server-sent events and
+ * resumes from the {@code Last-Event-ID} header on reconnect. A consumer whose
+ * sequence is older than the retained changes gets 410 Gone and has to re-read
+ * everything before following the feed again.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private static final int MAX_WAIT_SECONDS = 30;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ChangeFeedDispatcher changeFeedDispatcher;
+
+    @GetMapping
+    public DeferredResult<ResponseEntity<ChangeFeedPageDTO>> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int wait) {
+        int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+        Optional<ChangeFeedPageDTO> changes = changeFeedService.getChanges(since, pageSize);
+        if (changes.isEmpty()) {
+            return completed(new ResponseEntity<>(HttpStatus.GONE));
+        }
+        ChangeFeedPageDTO page = changes.get();
+        if (!page.getChanges().isEmpty() || wait <= 0) {
+            return completed(ResponseEntity.ok(page));
+        }
+        return changeFeedDispatcher.await(since, pageSize, Duration.ofSeconds(Math.min(wait, MAX_WAIT_SECONDS)));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(@RequestParam(defaultValue = "0") long since,
+                                                    @RequestHeader(value = "Last-Event-ID", required = false)
+                                                    Long lastEventId) {
+        long from = lastEventId != null ? lastEventId : since;
+        if (changeFeedService.isExpired(from)) {
+            return new ResponseEntity<>(HttpStatus.GONE);
+        }
+        return ResponseEntity.ok(changeFeedDispatcher.subscribe(from));
+    }
+
+    private static <T> DeferredResult<T> completed(T result) {
+        DeferredResult<T> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(result);
+        return deferredResult;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ideas2it.employeeManagement.changefeed.respository;
+
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeEventDTO;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Reads and writes the "change_events" outbox and its "change_sequence" counter
+ * with plain JDBC, so appending a change is one counter update and one JDBC batch
+ * of inserts however many entities it names, with nothing added to the
+ * persistence context of the surrounding transaction.
+ * </p>
+ */
+@Repository
+public class ChangeEventRepository {
+
+    private static final String RESERVE = "update change_sequence set last_sequence = last_sequence + ? where id = 1";
+
+    private static final String INITIALIZE = "insert into change_sequence (id, last_sequence) "
+            + "select 1, (select coalesce(max(sequence), 0) from change_events) "
+            + "where not exists (select 1 from change_sequence where id = 1)";
+
+    private static final String INSERT = "insert into change_events "
+            + "(sequence, entity_type, entity_id, operation, occurred_at) values (?, ?, ?, ?, ?)";
+
+    private static final String SELECT = "select sequence, entity_type, entity_id, operation, occurred_at "
+            + "from change_events ";
+
+    private static final RowMapper<ChangeEventDTO> ROW_MAPPER = (resultSet, rowNumber) -> ChangeEventDTO.builder()
+            .sequence(resultSet.getLong("sequence"))
+            .entityType(ChangeEvent.EntityType.valueOf(resultSet.getString("entity_type")))
+            .entityId(resultSet.getLong("entity_id"))
+            .operation(ChangeEvent.Operation.valueOf(resultSet.getString("operation")))
+            .occurredAt(resultSet.getTimestamp("occurred_at").toInstant())
+            .build();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the counter row if it does not exist yet, starting after the
+     * highest sequence already in the outbox.
+     */
+    public void initializeSequence() {
+        jdbcTemplate.update(INITIALIZE);
+    }
+
+    /**
+     * Reserves the next {@code count} sequences and returns the last of them.
+     * The counter row stays locked until the calling transaction ends, which
+     * orders the appending transactions by commit.
+     */
+    public long reserveSequences(int count) {
+        if (jdbcTemplate.update(RESERVE, count) == 0) {
+            initializeSequence();
+            jdbcTemplate.update(RESERVE, count);
+        }
+        return getLastSequence();
+    }
+
+    public long getLastSequence() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "select max(last_sequence) from change_sequence", Long.class)).orElse(0L);
+    }
+
+    public Optional<Long> findOldestSequence() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("select min(sequence) from change_events", Long.class));
+    }
+
+    public void insertAll(List<ChangeEventDTO> changes) {
+        jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (statement, change) -> {
+            statement.setLong(1, change.getSequence());
+            statement.setString(2, change.getEntityType().name());
+            statement.setLong(3, change.getEntityId());
+            statement.setString(4, change.getOperation().name());
+            statement.setTimestamp(5, Timestamp.from(change.getOccurredAt()));
+        });
+    }
+
+    /**
+     * The changes after the given sequence, in sequence order. Seeks through the
+     * primary key, like the keyset pages of the list endpoints.
+     */
+    public List<ChangeEventDTO> findAfter(long since, int limit) {
+        return jdbcTemplate.query(SELECT + "where sequence > ? order by sequence limit ?", ROW_MAPPER, since, limit);
+    }
+
+    public int deleteOlderThan(Instant cutoff) {
+        return jdbcTemplate.update("delete from change_events where occurred_at < ?", Timestamp.from(cutoff));
+    }
+}
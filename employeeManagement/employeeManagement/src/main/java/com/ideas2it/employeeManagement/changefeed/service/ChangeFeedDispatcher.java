@@ -0,0 +1,279 @@
+package com.ideas2it.employeeManagement.changefeed.service;
+
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeEventDTO;
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeFeedPageDTO;
+import com.ideas2it.employeeManagement.changefeed.respository.ChangeEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * Hands new changes to the consumers waiting on the change feed: long-poll
+ * requests parked until a change arrives, and server-sent event streams. The
+ * dispatcher is woken once a transaction that appended changes has committed,
+ * and by a periodic check of the sequence counter that picks up changes
+ * committed by other instances of the application.
+ * </p>
+ * <p>
+ * All reading is done by a single dispatcher thread, however many consumers are
+ * connected. Consumers waiting from the same sequence share one query, and a
+ * wake-up that arrives while the dispatcher is busy is folded into one more
+ * round.
+ * </p>
+ * <p>
+ * The dispatcher never writes to an event stream itself. It puts the changes
+ * into a bounded buffer per subscriber, which a virtual thread of that
+ * subscriber sends from, so a slow or stalled client only holds up its own
+ * stream. When a buffer is full the subscriber is skipped until its sender has
+ * emptied it and asks for more, and a subscriber that has not taken a single
+ * event for {@code employee-management.changes.send-timeout} while its buffer
+ * is full is closed. Its client reconnects with {@code Last-Event-ID} and
+ * resumes from the feed.
+ * </p>
+ */
+@Component
+public class ChangeFeedDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedDispatcher.class);
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Value("${employee-management.changes.stream-timeout:30m}")
+    private Duration streamTimeout;
+
+    @Value("${employee-management.changes.send-timeout:30s}")
+    private Duration sendTimeout;
+
+    @Value("${employee-management.changes.subscriber-buffer:1000}")
+    private int subscriberBuffer;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("change-feed-dispatcher").daemon().factory());
+
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("change-feed-sender-", 0).factory());
+
+    private final AtomicBoolean signalled = new AtomicBoolean();
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Subscriber> subscribers = new ConcurrentLinkedQueue<>();
+
+    private volatile long lastSeenSequence;
+
+    /**
+     * Parks a long-poll request until there are changes after {@code since} or
+     * the wait is over, in which case it is answered with an empty page.
+     */
+    public DeferredResult<ResponseEntity<ChangeFeedPageDTO>> await(long since, int limit, Duration wait) {
+        DeferredResult<ResponseEntity<ChangeFeedPageDTO>> result = new DeferredResult<>(wait.toMillis(),
+                () -> ResponseEntity.ok(ChangeFeedService.toPage(since, List.of())));
+        Waiter waiter = new Waiter(since, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        signal();
+        return result;
+    }
+
+    /**
+     * Opens an event stream that first replays the changes after {@code since}
+     * and then sends each new change as it is committed. Every event carries its
+     * sequence as the event ID, so a client that reconnects with
+     * {@code Last-Event-ID} resumes where it stopped.
+     */
+    public SseEmitter subscribe(long since) {
+        return subscribe(new SseEmitter(streamTimeout.toMillis()), since);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, long since) {
+        Subscriber subscriber = new Subscriber(emitter, since, subscriberBuffer);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        signal();
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onChangesAppended(ChangesAppendedEvent event) {
+        signal();
+    }
+
+    @Scheduled(fixedDelayString = "${employee-management.changes.poll-interval-ms:1000}")
+    public void pollForChanges() {
+        if (waiters.isEmpty() && subscribers.isEmpty()) {
+            return;
+        }
+        if (changeEventRepository.getLastSequence() > lastSeenSequence) {
+            signal();
+        }
+    }
+
+    private void signal() {
+        if (signalled.compareAndSet(false, true)) {
+            executor.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        signalled.set(false);
+        try {
+            lastSeenSequence = changeEventRepository.getLastSequence();
+            Map<Long, List<ChangeEventDTO>> changesAfter = new HashMap<>();
+            for (Waiter waiter : waiters) {
+                List<ChangeEventDTO> changes = changesAfter.computeIfAbsent(waiter.since, this::findAfter);
+                if (!changes.isEmpty()) {
+                    waiter.result.setResult(ResponseEntity.ok(ChangeFeedService.toPage(waiter.since,
+                            changes.subList(0, Math.min(waiter.limit, changes.size())))));
+                }
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.outbox.remainingCapacity() == 0) {
+                    if (System.nanoTime() - subscriber.lastProgressNanos > sendTimeout.toNanos()) {
+                        logger.info("Closing a change stream that has taken no event for {}", sendTimeout);
+                        close(subscriber);
+                    }
+                    continue;
+                }
+                List<ChangeEventDTO> changes;
+                do {
+                    changes = changesAfter.computeIfAbsent(subscriber.queuedSequence, this::findAfter);
+                } while (enqueue(subscriber, changes) && changes.size() == MAX_PAGE_SIZE);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Dispatching changes failed", e);
+        }
+    }
+
+    private List<ChangeEventDTO> findAfter(long since) {
+        return changeEventRepository.findAfter(since, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Buffers as many of the changes as fit and returns whether all did. A
+     * subscriber whose buffer filled up is marked as behind, so its sender asks
+     * for the rest once it has caught up.
+     */
+    private boolean enqueue(Subscriber subscriber, List<ChangeEventDTO> changes) {
+        boolean all = true;
+        for (ChangeEventDTO change : changes) {
+            if (!subscriber.outbox.offer(change)) {
+                subscriber.behind = true;
+                all = false;
+                break;
+            }
+            subscriber.queuedSequence = change.getSequence();
+        }
+        startSending(subscriber);
+        return all;
+    }
+
+    private void startSending(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Sends the buffered changes of one subscriber, on that subscriber's own
+     * sender thread.
+     */
+    private void drain(Subscriber subscriber) {
+        subscriber.lastProgressNanos = System.nanoTime();
+        try {
+            ChangeEventDTO change;
+            while (!subscriber.closed && (change = subscriber.outbox.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(change.getSequence()))
+                        .name("change")
+                        .data(change, MediaType.APPLICATION_JSON));
+                subscriber.lastProgressNanos = System.nanoTime();
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.closed = true;
+        } finally {
+            subscriber.sending.set(false);
+        }
+        if (subscriber.closed) {
+            subscriber.emitter.complete();
+        } else if (!subscriber.outbox.isEmpty()) {
+            startSending(subscriber);
+        } else if (subscriber.behind) {
+            subscriber.behind = false;
+            signal();
+        }
+    }
+
+    /**
+     * Drops a subscriber that fell behind. Its emitter is completed by its sender,
+     * once a send it may be stuck in has returned, so the dispatcher never waits
+     * on the client.
+     */
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.outbox.clear();
+        startSending(subscriber);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        subscribers.forEach(this::close);
+        senders.shutdown();
+    }
+
+    private record Waiter(long since, int limit, DeferredResult<ResponseEntity<ChangeFeedPageDTO>> result) {
+    }
+
+    private static class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<ChangeEventDTO> outbox;
+
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private long queuedSequence;
+
+        private volatile long lastProgressNanos = System.nanoTime();
+
+        private volatile boolean behind;
+
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, long queuedSequence, int bufferSize) {
+            this.emitter = emitter;
+            this.queuedSequence = queuedSequence;
+            this.outbox = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
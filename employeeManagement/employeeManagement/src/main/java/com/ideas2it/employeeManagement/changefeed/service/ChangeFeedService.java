@@ -0,0 +1,148 @@
+package com.ideas2it.employeeManagement.changefeed.service;
+
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeEventDTO;
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeFeedPageDTO;
+import com.ideas2it.employeeManagement.changefeed.respository.ChangeEventRepository;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>
+ * Appends the changes made by the employee, department and project services to
+ * the "change_events" outbox, in the transaction that makes them, and reads them
+ * back for consumers of the change feed. A change is visible to consumers exactly
+ * when the change itself is committed, and a rolled back change leaves nothing
+ * behind, not even a gap in the sequences.
+ * </p>
+ * <p>
+ * Appending locks the sequence counter row until the transaction ends, so the
+ * services append last, once everything else in the transaction is done.
+ * Changes older than the configured retention are pruned; a consumer that has
+ * fallen further behind has to re-read everything and start again from the
+ * latest sequence.
+ * </p>
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private static final int MAX_ROWS_PER_BATCH = 1000;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${employee-management.changes.retention:7d}")
+    private Duration retention;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        changeEventRepository.initializeSequence();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(ChangeEvent.EntityType entityType, ChangeEvent.Operation operation, Long entityId) {
+        append(entityType, operation, List.of(entityId));
+    }
+
+    /**
+     * Appends one change per entity, with consecutive sequences. Must be called
+     * inside the transaction making the change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(ChangeEvent.EntityType entityType, ChangeEvent.Operation operation,
+                       Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        long lastSequence = changeEventRepository.reserveSequences(entityIds.size());
+        long sequence = lastSequence - entityIds.size();
+        Instant occurredAt = Instant.now();
+        List<ChangeEventDTO> changes = new ArrayList<>(Math.min(entityIds.size(), MAX_ROWS_PER_BATCH));
+        for (Long entityId : entityIds) {
+            changes.add(ChangeEventDTO.builder()
+                    .sequence(++sequence)
+                    .entityType(entityType)
+                    .entityId(entityId)
+                    .operation(operation)
+                    .occurredAt(occurredAt)
+                    .build());
+            if (changes.size() == MAX_ROWS_PER_BATCH) {
+                changeEventRepository.insertAll(changes);
+                changes.clear();
+            }
+        }
+        if (!changes.isEmpty()) {
+            changeEventRepository.insertAll(changes);
+        }
+        eventPublisher.publishEvent(new ChangesAppendedEvent(lastSequence));
+    }
+
+    /**
+     * The changes after the given sequence, or nothing when some of them have
+     * already been pruned.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ChangeFeedPageDTO> getChanges(long since, int limit) {
+        if (isExpired(since)) {
+            return Optional.empty();
+        }
+        return Optional.of(toPage(since, changeEventRepository.findAfter(since, limit)));
+    }
+
+    public long getLastSequence() {
+        return changeEventRepository.getLastSequence();
+    }
+
+    /**
+     * Whether changes after the given sequence have already been pruned, so
+     * reading on from it would silently skip them.
+     */
+    @Transactional(readOnly = true)
+    public boolean isExpired(long since) {
+        if (since >= changeEventRepository.getLastSequence()) {
+            return false;
+        }
+        return changeEventRepository.findOldestSequence()
+                .map(oldestSequence -> oldestSequence > since + 1)
+                .orElse(true);
+    }
+
+    @Scheduled(fixedDelayString = "${employee-management.changes.prune-interval-ms:3600000}")
+    @Transactional
+    public void prune() {
+        int pruned = changeEventRepository.deleteOlderThan(Instant.now().minus(retention));
+        if (pruned > 0) {
+            logger.info("Pruned {} changes older than {}", pruned, retention);
+        }
+    }
+
+    static ChangeFeedPageDTO toPage(long since, List<ChangeEventDTO> changes) {
+        long nextSequence = changes.isEmpty() ? since : changes.getLast().getSequence();
+        return ChangeFeedPageDTO.builder()
+                .changes(changes)
+                .nextSequence(nextSequence)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.ideas2it.employeeManagement.changefeed.service;
+
+/**
+ * <p>
+ * Published by {@link ChangeFeedService#append} with the last sequence it wrote,
+ * so the feed can wake its waiting consumers once the transaction has committed.
+ * </p>
+ */
+public record ChangesAppendedEvent(long lastSequence) {
+}
@@ -0,0 +1,30 @@
+package com.ideas2it.employeeManagement.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>
+ * Tells API clients apart, for the per-client rate limits and for routing a
+ * client's reads after its own writes. A client is named by the configured
+ * header, meant to be one set by a gateway in front of the service, or by its
+ * remote address when the header is not configured or absent.
+ * </p>
+ */
+@Component
+public class ClientIdResolver {
+
+    @Value("${employee-management.client-header:}")
+    private String clientHeader;
+
+    public String resolve(HttpServletRequest request) {
+        if (!clientHeader.isEmpty()) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
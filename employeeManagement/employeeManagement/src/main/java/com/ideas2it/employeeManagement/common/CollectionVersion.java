@@ -0,0 +1,12 @@
+package com.ideas2it.employeeManagement.common;
+
+/**
+ * <p>
+ * Version of a whole list of entities: how many live rows it has, the highest ID
+ * among them and the sum of their {@code @Version} values. Creating a row raises
+ * the highest ID, soft-deleting one lowers the count and updating one raises the
+ * sum, so any change to the list produces a different version.
+ * </p>
+ */
+public record CollectionVersion(Long count, Long maxId, Long versionSum) {
+}
@@ -0,0 +1,40 @@
+package com.ideas2it.employeeManagement.common;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * <p>
+ * Builds strong entity tags from entity versions and reads the expected version
+ * back from an {@code If-Match} header. A single entity is tagged with its
+ * {@code @Version} value and a list with its {@link CollectionVersion}.
+ * </p>
+ */
+public class ETags {
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(CollectionVersion version) {
+        return "\"" + version.count() + "-" + version.maxId() + "-" + version.versionSum() + "\"";
+    }
+
+    /**
+     * Returns the version named by an {@code If-Match} header, or null when the
+     * header is absent or {@code *} and the update is unconditional.
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new OptimisticLockingFailureException("If-Match is not a strong entity tag: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new OptimisticLockingFailureException("If-Match does not name a version: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ideas2it.employeeManagement.common;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>
+ * Formats the list exports can be written in. JSON stays the default. CBOR and
+ * Smile are binary encodings of the same document, so they are smaller and
+ * cheaper to parse than JSON. CSV writes one row per element under a header of
+ * property names, with no field names repeated on every row.
+ * </p>
+ */
+public enum ExportFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(new MediaType("application", "cbor")),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    CSV(new MediaType("text", "csv"));
+
+    public static final String CBOR_VALUE = "application/cbor";
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the format the {@code Accept} header prefers, by quality value and
+     * then header order. A missing header or a wildcard selects JSON.
+     */
+    public static ExportFormat fromAccept(String accept) throws HttpMediaTypeNotAcceptableException {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            throw new HttpMediaTypeNotAcceptableException(e.getMessage());
+        }
+        acceptedTypes.removeIf(acceptedType -> acceptedType.getQualityValue() == 0);
+        acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType acceptedType : acceptedTypes) {
+            for (ExportFormat format : values()) {
+                if (acceptedType.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(Arrays.stream(values()).map(ExportFormat::getMediaType).toList());
+    }
+}
@@ -0,0 +1,27 @@
+package com.ideas2it.employeeManagement.common;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * <p>
+ * Replaces the default CBOR and Smile message converters with ones built on the
+ * export mappers, so endpoints returning a body answer CBOR and Smile requests
+ * with the same values the streamed exports write.
+ * </p>
+ */
+@Configuration
+public class ExportFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ExportWriterFactory exportWriterFactory) {
+        return new MappingJackson2CborHttpMessageConverter(exportWriterFactory.getObjectMapper(ExportFormat.CBOR));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ExportWriterFactory exportWriterFactory) {
+        return new MappingJackson2SmileHttpMessageConverter(exportWriterFactory.getObjectMapper(ExportFormat.SMILE));
+    }
+}
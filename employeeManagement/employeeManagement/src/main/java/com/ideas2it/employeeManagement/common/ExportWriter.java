@@ -0,0 +1,37 @@
+package com.ideas2it.employeeManagement.common;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * <p>
+ * Writes a list to the servlet response one element at a time, in the format
+ * chosen by {@link ExportWriterFactory}. Elements are serialized as soon as they
+ * are handed over, so the size of the response never has to be held in memory
+ * as a list. Jackson buffers the output in small blocks and flushes them to the
+ * client as the list grows.
+ * </p>
+ */
+public class ExportWriter implements AutoCloseable {
+
+    private final SequenceWriter sequenceWriter;
+
+    ExportWriter(SequenceWriter sequenceWriter) {
+        this.sequenceWriter = sequenceWriter;
+    }
+
+    public void write(Object element) {
+        try {
+            sequenceWriter.write(element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        sequenceWriter.close();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ideas2it.employeeManagement.common;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Opens an {@link ExportWriter} on the servlet response for a negotiated
+ * {@link ExportFormat}. The binary and CSV mappers are copies of the
+ * application's ObjectMapper, so every format writes dates and other values the
+ * same way the JSON endpoints do. CSV columns follow the DTO's field order.
+ * Mappers and CSV schemas are built once and reused, keeping their serializer
+ * caches warm across exports.
+ * </p>
+ */
+@Component
+public class ExportWriterFactory {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<ExportFormat, ObjectMapper> objectMappers = new EnumMap<>(ExportFormat.class);
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+    private final Map<Class<?>, CsvSchema> csvSchemas = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void createMappers() {
+        objectMappers.put(ExportFormat.JSON, objectMapper);
+        objectMappers.put(ExportFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        objectMappers.put(ExportFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+        objectMappers.put(ExportFormat.CSV, objectMapper.copyWith(new CsvFactory()));
+    }
+
+    public ObjectMapper getObjectMapper(ExportFormat format) {
+        return objectMappers.get(format);
+    }
+
+    public ExportWriter open(ExportFormat format, Class<?> elementType, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(format.getMediaType().toString());
+        if (format == ExportFormat.JSON || format == ExportFormat.CSV) {
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        ObjectWriter writer = objectMappers.get(format).writerFor(elementType);
+        if (format == ExportFormat.CSV) {
+            CsvSchema schema = csvSchemas.computeIfAbsent(elementType,
+                    type -> csvMapper.schemaFor(type).withHeader());
+            return new ExportWriter(writer.with(schema).writeValues(response.getOutputStream()));
+        }
+        return new ExportWriter(writer.writeValuesAsArray(response.getOutputStream()));
+    }
+}
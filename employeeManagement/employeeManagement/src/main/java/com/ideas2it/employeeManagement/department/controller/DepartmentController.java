@@ -1,57 +1,165 @@
 package com.ideas2it.employeeManagement.department.controller;
 
+import com.ideas2it.employeeManagement.common.ETags;
+import com.ideas2it.employeeManagement.common.ExportFormat;
+import com.ideas2it.employeeManagement.common.ExportWriter;
+import com.ideas2it.employeeManagement.common.ExportWriterFactory;
 import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDeleteCascade;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDeletionResultDTO;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentStatsDTO;
+import com.ideas2it.employeeManagement.department.service.DepartmentStatsService;
 import com.ideas2it.employeeManagement.mapper.DepartmentMapper;
+import com.ideas2it.employeeManagement.mapper.DepartmentStatsMapper;
 import com.ideas2it.employeeManagement.model.Department;
 import com.ideas2it.employeeManagement.department.service.DepartmentService;
+import com.ideas2it.employeeManagement.writebehind.service.WriteBehindQueue;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/departments")
 public class DepartmentController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private DepartmentStatsService departmentStatsService;
+
+    @Autowired
+    private WriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    private ExportWriterFactory exportWriterFactory;
+
     @PostMapping
     public DepartmentDTO createDepartment(@RequestBody DepartmentDTO departmentDTO) {
         return DepartmentMapper.convertToDTO(departmentService.createDepartment(DepartmentMapper.convertToEntity(departmentDTO)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentDTO> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<DepartmentDTO> getDepartmentById(@PathVariable Long id, WebRequest request) {
         try {
-            DepartmentDTO departmentDTO = DepartmentMapper.convertToDTO(departmentService.getDepartmentById(id));
-            return new ResponseEntity<>(departmentDTO, HttpStatus.OK);
+            Department department = departmentService.getDepartmentById(id);
+            String eTag = ETags.of(department.getVersion());
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(eTag).body(DepartmentMapper.convertToDTO(department));
         } catch (RuntimeException e){
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
+    /**
+     * Returns every department with the version of the whole list as the ETag, so a
+     * client polling with If-None-Match gets 304 Not Modified from one aggregate
+     * query until a department is created, updated or deleted.
+     */
     @GetMapping
-    public List<DepartmentDTO> getAllDepartments() {
-        List<DepartmentDTO> departmentDTOs = new ArrayList<>();
-        List<Department> departments = departmentService.getAllDepartments();
-        for (Department department : departments) {
-            departmentDTOs.add(DepartmentMapper.convertToDTO(department));
+    public ResponseEntity<List<DepartmentDTO>> getAllDepartments(WebRequest request) {
+        String eTag = ETags.of(departmentService.getDepartmentsVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(departmentService.getAllDepartmentDTOs());
+    }
+
+    /**
+     * Headcount, total and average salary and average experience of every
+     * department, read from the maintained summary rather than the employees.
+     */
+    @GetMapping("/stats")
+    public List<DepartmentStatsDTO> getAllDepartmentStats() {
+        return departmentStatsService.getAllStats().stream()
+                .map(DepartmentStatsMapper::convertToDTO)
+                .toList();
+    }
+
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<DepartmentStatsDTO> getDepartmentStats(@PathVariable Long id) {
+        try {
+            return new ResponseEntity<>(DepartmentStatsMapper.convertToDTO(departmentStatsService.getStats(id)), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping(params = "limit")
+    public List<DepartmentDTO> getDepartmentsAfter(@RequestParam(defaultValue = "0") Long after,
+                                                   @RequestParam int limit) {
+        return departmentService.getDepartmentDTOsAfter(after, Math.clamp(limit, 1, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Writes every department straight from the database cursor as JSON, CBOR, Smile
+     * or CSV, whichever the Accept header asks for first.
+     */
+    @GetMapping("/stream")
+    public void streamAllDepartments(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                     HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+        ExportFormat format = ExportFormat.fromAccept(accept);
+        try (ExportWriter writer = exportWriterFactory.open(format, DepartmentDTO.class, response)) {
+            departmentService.streamAllDepartments(writer::write);
         }
-        return departmentDTOs;
     }
 
     @PutMapping("/{id}")
-    public DepartmentDTO updateDepartment(@PathVariable Long id, @RequestBody DepartmentDTO departmentDTO) {
-        return DepartmentMapper.convertToDTO(departmentService.updateDepartment(id, DepartmentMapper.convertToEntity(departmentDTO)));
+    public ResponseEntity<DepartmentDTO> updateDepartment(@PathVariable Long id, @RequestBody DepartmentDTO departmentDTO,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            Department department = DepartmentMapper.convertToEntity(departmentDTO);
+            department.setVersion(ETags.parseVersion(ifMatch));
+            Department updatedDepartment = departmentService.updateDepartment(id, department);
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(updatedDepartment.getVersion()))
+                    .body(DepartmentMapper.convertToDTO(updatedDepartment));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
     }
 
     @DeleteMapping("/{id}")
-    public void deleteDepartment(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteDepartment(@PathVariable Long id) {
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.deleteDepartment(id);
+            return ResponseEntity.accepted().build();
+        }
         departmentService.deleteDepartment(id);
+        return ResponseEntity.ok().build();
     }
-}
 
+    /**
+     * Deletes the department together with its employees, e.g.
+     * {@code DELETE /api/departments/3?cascade=detach} to keep the employees
+     * without a department or {@code cascade=delete} to delete them as well.
+     */
+    @DeleteMapping(value = "/{id}", params = "cascade")
+    public ResponseEntity<DepartmentDeletionResultDTO> deleteDepartment(@PathVariable Long id,
+                                                                        @RequestParam String cascade) {
+        DepartmentDeleteCascade departmentDeleteCascade;
+        try {
+            departmentDeleteCascade = DepartmentDeleteCascade.from(cascade);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(departmentService.deleteDepartment(id, departmentDeleteCascade), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ideas2it.employeeManagement.department.departmentDTO;
+
+import java.util.Locale;
+
+/**
+ * What happens to the employees of a department when it is deleted: they either
+ * stay on without a department or are deleted along with it.
+ */
+public enum DepartmentDeleteCascade {
+    DETACH,
+    DELETE;
+
+    /**
+     * Reads the cascade from a request parameter such as {@code detach}, ignoring case.
+     *
+     * @throws IllegalArgumentException if the value names no cascade
+     */
+    public static DepartmentDeleteCascade from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
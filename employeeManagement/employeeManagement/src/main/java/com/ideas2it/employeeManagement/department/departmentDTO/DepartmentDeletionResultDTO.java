@@ -0,0 +1,15 @@
+package com.ideas2it.employeeManagement.department.departmentDTO;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartmentDeletionResultDTO {
+    private Long departmentId;
+    private DepartmentDeleteCascade cascade;
+    private int employeesDetached;
+    private int employeesDeleted;
+}
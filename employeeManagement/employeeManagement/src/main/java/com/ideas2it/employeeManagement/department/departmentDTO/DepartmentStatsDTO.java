@@ -0,0 +1,17 @@
+package com.ideas2it.employeeManagement.department.departmentDTO;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartmentStatsDTO {
+    private Long departmentId;
+    private String departmentName;
+    private long headcount;
+    private double totalSalary;
+    private double averageSalary;
+    private double averageExperience;
+}
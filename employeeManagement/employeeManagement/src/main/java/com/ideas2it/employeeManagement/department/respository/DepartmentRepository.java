@@ -1,14 +1,47 @@
 package com.ideas2it.employeeManagement.department.respository;
 
+import com.ideas2it.employeeManagement.common.CollectionVersion;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
 import com.ideas2it.employeeManagement.model.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
-    List<Department> findByIsDeletedFalse();
+
+    String SELECT_DTO = "select new com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO("
+            + "d.departmentId, d.departmentName) from Department d ";
+
     Optional<Department> findByDepartmentIdAndIsDeletedFalse(Long DepartmentId);
+
+    @Query(SELECT_DTO + "where d.isDeleted = false")
+    List<DepartmentDTO> findAllDTOs();
+
+    @Query(SELECT_DTO + "where d.isDeleted = false and d.departmentId > :after order by d.departmentId")
+    List<DepartmentDTO> findDTOPageAfter(@Param("after") Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "where d.isDeleted = false order by d.departmentId")
+    Stream<DepartmentDTO> streamAllDTOs();
+
+    @Query("select new com.ideas2it.employeeManagement.common.CollectionVersion(count(d), coalesce(max(d.departmentId), 0L), "
+            + "coalesce(sum(d.version), 0L)) from Department d where d.isDeleted = false")
+    CollectionVersion findCollectionVersion();
+
+    @Modifying
+    @Query("update Department d set d.isDeleted = true, d.deletedAt = instant, d.version = d.version + 1 "
+            + "where d.departmentId in :ids and d.isDeleted = false")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids);
 }
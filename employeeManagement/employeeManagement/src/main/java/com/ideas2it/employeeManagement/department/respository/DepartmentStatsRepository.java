@@ -0,0 +1,62 @@
+package com.ideas2it.employeeManagement.department.respository;
+
+import com.ideas2it.employeeManagement.model.DepartmentStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DepartmentStatsRepository extends JpaRepository<DepartmentStats, Long> {
+
+    @Query("select s from DepartmentStats s join fetch s.department d where d.isDeleted = false order by d.departmentId")
+    List<DepartmentStats> findAllForLiveDepartments();
+
+    /**
+     * Adds the given differences to the department's totals in the database, so
+     * concurrent changes to the same department never overwrite each other.
+     * Returns 0 when the department has no summary row yet.
+     */
+    @Modifying
+    @Query(value = "update department_stats set headcount = headcount + :headcount, "
+            + "total_salary = total_salary + :salary, total_experience = total_experience + :experience "
+            + "where department_id = :departmentId", nativeQuery = true)
+    int applyDelta(@Param("departmentId") Long departmentId, @Param("headcount") long headcount,
+                   @Param("salary") double salary, @Param("experience") long experience);
+
+    /**
+     * Creates zeroed summary rows for those of the given departments that have
+     * none yet. Rows created meanwhile by another transaction are left alone.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into department_stats (department_id, headcount, total_salary, total_experience) "
+            + "select d.department_id, 0, 0, 0 from departments d where d.department_id in (:departmentIds) "
+            + "on conflict do nothing", nativeQuery = true)
+    int insertEmpty(@Param("departmentIds") Collection<Long> departmentIds);
+
+    /**
+     * Recomputes the summary rows of the given departments from the employees
+     * table in one UPDATE, which locks the rows like {@link #applyDelta} does.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update department_stats s set (headcount, total_salary, total_experience) = "
+            + "(select count(e.employee_id), coalesce(sum(e.salary), 0), coalesce(sum(e.experience), 0) "
+            + "from employees e where e.department_id = s.department_id and e.is_deleted = false) "
+            + "where s.department_id in (:departmentIds)", nativeQuery = true)
+    int updateRecalculated(@Param("departmentIds") Collection<Long> departmentIds);
+
+    /**
+     * Creates the summary rows of every department that does not have one yet.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into department_stats (department_id, headcount, total_salary, total_experience) "
+            + "select d.department_id, count(e.employee_id), coalesce(sum(e.salary), 0), coalesce(sum(e.experience), 0) "
+            + "from departments d left join employees e on e.department_id = d.department_id and e.is_deleted = false "
+            + "where not exists (select 1 from department_stats s where s.department_id = d.department_id) "
+            + "group by d.department_id on conflict do nothing", nativeQuery = true)
+    int insertMissing();
+}
@@ -1,17 +1,30 @@
 package com.ideas2it.employeeManagement.department.service;
 
+import com.ideas2it.employeeManagement.common.CollectionVersion;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDeleteCascade;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDeletionResultDTO;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
 import com.ideas2it.employeeManagement.model.Department;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface DepartmentService {
     Department createDepartment(Department department);
 
     Department getDepartmentById(Long id);
 
-    List<Department> getAllDepartments();
+    List<DepartmentDTO> getAllDepartmentDTOs();
+
+    CollectionVersion getDepartmentsVersion();
+
+    List<DepartmentDTO> getDepartmentDTOsAfter(Long after, int limit);
+
+    void streamAllDepartments(Consumer<DepartmentDTO> action);
 
     Department updateDepartment(Long id, Department departmentDetails);
 
     void deleteDepartment(Long id);
+
+    DepartmentDeletionResultDTO deleteDepartment(Long id, DepartmentDeleteCascade cascade);
 }
@@ -1,46 +1,154 @@
 package com.ideas2it.employeeManagement.department.service;
 
+import com.ideas2it.employeeManagement.changefeed.service.ChangeFeedService;
+import com.ideas2it.employeeManagement.common.CollectionVersion;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDeleteCascade;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDeletionResultDTO;
+import com.ideas2it.employeeManagement.employee.service.EmployeeService;
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
 import com.ideas2it.employeeManagement.model.Department;
 import com.ideas2it.employeeManagement.department.respository.DepartmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+/**
+ * <p>
+ * Service class that provides business logic related to Department operations.
+ * Departments are reference data that change rarely but are looked up on every
+ * employee assignment, so lookups by ID are served from the "departments" cache
+ * (bounded in size and expiring after a fixed time, see application.properties)
+ * and the entry is evicted whenever the department is updated or deleted.
+ * Every change is appended to the change feed in the transaction making it.
+ * Reads run in read-only transactions, except the cached lookup by ID, which
+ * opens none on a cache hit and reads a miss from the primary.
+ * </p>
+ */
 @Service
+@CacheConfig(cacheNames = "departments")
 public class DepartmentServiceImpl implements DepartmentService {
 
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private DepartmentStatsService departmentStatsService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
     @Override
+    @Transactional
     public Department createDepartment(Department department) {
-        return departmentRepository.save(department);
+        Department savedDepartment = departmentRepository.save(department);
+        departmentStatsService.createStats(savedDepartment);
+        changeFeedService.append(ChangeEvent.EntityType.DEPARTMENT, ChangeEvent.Operation.CREATED,
+                savedDepartment.getDepartmentId());
+        return savedDepartment;
     }
 
+    /**
+     * Fills the cache from the primary: a read-write transaction is never routed
+     * to a replica, which may not have the change that evicted the entry yet.
+     * The cache is consulted before the transaction is opened, so a hit still
+     * opens none.
+     */
     @Override
+    @Cacheable(key = "#id")
+    @Transactional
     public Department getDepartmentById(Long id) {
         Optional<Department> departmentOptional = departmentRepository.findByDepartmentIdAndIsDeletedFalse(id);
         return departmentOptional.orElseThrow(() -> new RuntimeException("Department not found for ID: " + id));
     }
 
     @Override
-    public List<Department> getAllDepartments() {
-        return departmentRepository.findByIsDeletedFalse();
+    @Transactional(readOnly = true)
+    public List<DepartmentDTO> getAllDepartmentDTOs() {
+        return departmentRepository.findAllDTOs();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollectionVersion getDepartmentsVersion() {
+        return departmentRepository.findCollectionVersion();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentDTO> getDepartmentDTOsAfter(Long after, int limit) {
+        return departmentRepository.findDTOPageAfter(after, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllDepartments(Consumer<DepartmentDTO> action) {
+        try (Stream<DepartmentDTO> departmentDTOs = departmentRepository.streamAllDTOs()) {
+            departmentDTOs.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(key = "#id")
     public Department updateDepartment(Long id, Department departmentDetails) {
         Department department = getDepartmentById(id);
+        if (departmentDetails.getVersion() != null && !departmentDetails.getVersion().equals(department.getVersion())) {
+            throw new OptimisticLockingFailureException("Department " + id + " has been modified since version "
+                    + departmentDetails.getVersion());
+        }
         department.setDepartmentName(departmentDetails.getDepartmentName());
-        return departmentRepository.save(department);
+        Department savedDepartment = departmentRepository.save(department);
+        changeFeedService.append(ChangeEvent.EntityType.DEPARTMENT, ChangeEvent.Operation.UPDATED, id);
+        return savedDepartment;
     }
 
     @Override
+    @Transactional
+    @CacheEvict(key = "#id")
     public void deleteDepartment(Long id) {
         Department department = getDepartmentById(id);
         department.setDeleted(true);
+        department.setDeletedAt(Instant.now());
         departmentRepository.save(department);
+        changeFeedService.append(ChangeEvent.EntityType.DEPARTMENT, ChangeEvent.Operation.DELETED, id);
+    }
+
+    /**
+     * Deletes the department and, depending on the cascade, detaches or deletes
+     * all of its employees. Each step is a single UPDATE, however many employees
+     * the department has.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(key = "#id")
+    public DepartmentDeletionResultDTO deleteDepartment(Long id, DepartmentDeleteCascade cascade) {
+        if (departmentRepository.softDeleteByIds(Set.of(id)) == 0) {
+            throw new RuntimeException("Department not found for ID: " + id);
+        }
+        DepartmentDeletionResultDTO.DepartmentDeletionResultDTOBuilder result = DepartmentDeletionResultDTO.builder()
+                .departmentId(id)
+                .cascade(cascade);
+        switch (cascade) {
+            case DETACH -> result.employeesDetached(employeeService.detachEmployeesFromDepartment(id));
+            case DELETE -> result.employeesDeleted(employeeService.deleteEmployeesOfDepartment(id));
+        }
+        changeFeedService.append(ChangeEvent.EntityType.DEPARTMENT, ChangeEvent.Operation.DELETED, id);
+        return result.build();
     }
 }
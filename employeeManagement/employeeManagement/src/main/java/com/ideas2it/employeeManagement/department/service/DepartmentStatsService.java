@@ -0,0 +1,19 @@
+package com.ideas2it.employeeManagement.department.service;
+
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.DepartmentStats;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DepartmentStatsService {
+    void createStats(Department department);
+
+    void applyDelta(Long departmentId, long headcount, double salary, long experience);
+
+    void recalculate(Collection<Long> departmentIds);
+
+    DepartmentStats getStats(Long departmentId);
+
+    List<DepartmentStats> getAllStats();
+}
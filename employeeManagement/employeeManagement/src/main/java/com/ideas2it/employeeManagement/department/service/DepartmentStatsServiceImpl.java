@@ -0,0 +1,97 @@
+package com.ideas2it.employeeManagement.department.service;
+
+import com.ideas2it.employeeManagement.department.respository.DepartmentStatsRepository;
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.DepartmentStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>
+ * Maintains the per-department summary rows. Employee changes hand over the
+ * difference they make to a department's headcount, salary and experience, which
+ * is added to the row with a single UPDATE inside the same transaction as the
+ * change itself. A department without a row yet has it recomputed from the
+ * employees table instead, which also covers departments created before the
+ * summary existed; those are backfilled once at startup.
+ * </p>
+ * <p>
+ * A recalculation first creates the missing rows, skipping any another
+ * transaction creates at the same time, and then overwrites them with one
+ * UPDATE. Concurrent recalculations of a department therefore wait for each
+ * other on its row instead of failing on its primary key.
+ * </p>
+ */
+@Service
+public class DepartmentStatsServiceImpl implements DepartmentStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentStatsServiceImpl.class);
+
+    @Autowired
+    private DepartmentStatsRepository departmentStatsRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createStats(Department department) {
+        departmentStatsRepository.save(DepartmentStats.builder().department(department).build());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDelta(Long departmentId, long headcount, double salary, long experience) {
+        if (departmentId == null || (headcount == 0 && salary == 0 && experience == 0)) {
+            return;
+        }
+        if (departmentStatsRepository.applyDelta(departmentId, headcount, salary, experience) == 0) {
+            recalculate(Set.of(departmentId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recalculate(Collection<Long> departmentIds) {
+        if (departmentIds.isEmpty()) {
+            return;
+        }
+        departmentStatsRepository.insertEmpty(departmentIds);
+        departmentStatsRepository.updateRecalculated(departmentIds);
+    }
+
+    @Override
+    @Transactional
+    public DepartmentStats getStats(Long departmentId) {
+        Optional<DepartmentStats> stats = departmentStatsRepository.findById(departmentId);
+        if (stats.isEmpty()) {
+            recalculate(Set.of(departmentId));
+            stats = departmentStatsRepository.findById(departmentId);
+        }
+        return stats.filter(departmentStats -> !departmentStats.getDepartment().isDeleted())
+                .orElseThrow(() -> new RuntimeException("Department not found for ID: " + departmentId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DepartmentStats> getAllStats() {
+        return departmentStatsRepository.findAllForLiveDepartments();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void createMissingStats() {
+        int created = departmentStatsRepository.insertMissing();
+        if (created > 0) {
+            logger.info("Computed department stats for {} departments", created);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.ideas2it.employeeManagement.diagnostics.config;
+
+import com.ideas2it.employeeManagement.diagnostics.service.ConnectionAcquisitionListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Records how many pooled connections each request acquired on its request
+ * thread, as the {@code employee_management.request.connections} distribution,
+ * and for how long it held them, as the
+ * {@code employee_management.request.connections.held} timer, both tagged with
+ * the HTTP method and the matched URI pattern. Connections taken after a
+ * request has gone asynchronous are not counted.
+ * </p>
+ */
+@Component
+public class ConnectionCountingFilter extends OncePerRequestFilter {
+
+    public static final String METER = "employee_management.request.connections";
+
+    public static final String HELD_METER = METER + ".held";
+
+    @Autowired
+    private ConnectionAcquisitionListener connectionAcquisitionListener;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        connectionAcquisitionListener.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConnectionAcquisitionListener.Usage usage = connectionAcquisitionListener.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? "UNKNOWN" : pattern.toString());
+            DistributionSummary.builder(METER)
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(usage.getAcquired());
+            Timer.builder(HELD_METER)
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(usage.getHeldNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
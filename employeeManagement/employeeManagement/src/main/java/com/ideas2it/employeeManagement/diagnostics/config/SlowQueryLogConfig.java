@@ -0,0 +1,55 @@
+package com.ideas2it.employeeManagement.diagnostics.config;
+
+import com.ideas2it.employeeManagement.diagnostics.service.ConnectionAcquisitionListener;
+import com.ideas2it.employeeManagement.diagnostics.service.SlowQueryListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * <p>
+ * Wraps the application DataSource in a datasource-proxy that times every
+ * statement and hands it to the {@link SlowQueryListener}, and that reports each
+ * connection taken from the pool to the {@link ConnectionAcquisitionListener}.
+ * The connection pool underneath stays reachable through
+ * {@link DataSource#unwrap(Class)}.
+ * </p>
+ */
+@Configuration
+public class SlowQueryLogConfig {
+
+    @Bean
+    public SlowQueryListener slowQueryListener(
+            @Value("${employee-management.diagnostics.slow-query-threshold:200ms}") Duration threshold) {
+        return new SlowQueryListener(threshold);
+    }
+
+    @Bean
+    public ConnectionAcquisitionListener connectionAcquisitionListener() {
+        return new ConnectionAcquisitionListener();
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryListener> slowQueryListener,
+            ObjectProvider<ConnectionAcquisitionListener> connectionAcquisitionListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(slowQueryListener.getObject())
+                            .methodListener(connectionAcquisitionListener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package com.ideas2it.employeeManagement.diagnostics.controller;
+
+import com.ideas2it.employeeManagement.diagnostics.config.ConnectionCountingFilter;
+import com.ideas2it.employeeManagement.diagnostics.diagnosticsDTO.ConnectionUsageDTO;
+import com.ideas2it.employeeManagement.diagnostics.diagnosticsDTO.QueryStatisticsDTO;
+import com.ideas2it.employeeManagement.diagnostics.diagnosticsDTO.ThreadingReportDTO;
+import com.ideas2it.employeeManagement.diagnostics.service.SlowQueryListener;
+import com.ideas2it.employeeManagement.diagnostics.service.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST controller exposing runtime diagnostics of the service.
+ *
+ * <p>
+ * The threads report shows whether requests run on virtual threads, how often a
+ * virtual thread has been pinned to its carrier and how busy the connection pool
+ * is, so throughput runs in both execution modes can be compared side by side.
+ * The queries report lists the JPQL queries that have consumed the most database
+ * time according to Hibernate statistics. The connections report shows how many
+ * pooled connections the requests to each endpoint acquired and for how long they
+ * held them.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/diagnostics")
+public class DiagnosticsController {
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SlowQueryListener slowQueryListener;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @GetMapping("/threads")
+    public ThreadingReportDTO getThreadingReport() throws SQLException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        ThreadingReportDTO.ThreadingReportDTOBuilder report = ThreadingReportDTO.builder()
+                .virtualThreads(virtualThreadsEnabled)
+                .pinnedEvents(pinningMonitor.getPinnedEvents())
+                .liveThreads(threads.getThreadCount())
+                .peakThreads(threads.getPeakThreadCount());
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+            report.poolMaximumSize(hikariDataSource.getMaximumPoolSize());
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                report.poolActiveConnections(pool.getActiveConnections())
+                        .poolIdleConnections(pool.getIdleConnections())
+                        .poolThreadsAwaitingConnection(pool.getThreadsAwaitingConnection());
+            }
+        }
+        return report.build();
+    }
+
+    @GetMapping("/queries")
+    public List<QueryStatisticsDTO> getQueryStatistics(@RequestParam(defaultValue = "20") int limit) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getQueries())
+                .map(query -> toDTO(query, statistics.getQueryStatistics(query)))
+                .filter(queryStatistics -> queryStatistics.getExecutionCount() > 0)
+                .sorted(Comparator.comparingLong(QueryStatisticsDTO::getTotalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @GetMapping("/queries/slow")
+    public Map<String, Long> getSlowQueryCount() {
+        return Map.of("slowQueries", slowQueryListener.getSlowQueries());
+    }
+
+    @GetMapping("/connections")
+    public List<ConnectionUsageDTO> getConnectionUsage() {
+        return meterRegistry.find(ConnectionCountingFilter.METER).summaries().stream()
+                .map(this::toDTO)
+                .sorted(Comparator.comparingDouble(ConnectionUsageDTO::getMeanPerRequest).reversed())
+                .toList();
+    }
+
+    private ConnectionUsageDTO toDTO(DistributionSummary summary) {
+        Timer held = meterRegistry.find(ConnectionCountingFilter.HELD_METER).tags(summary.getId().getTags()).timer();
+        return ConnectionUsageDTO.builder()
+                .method(summary.getId().getTag("method"))
+                .uri(summary.getId().getTag("uri"))
+                .requests(summary.count())
+                .connections((long) summary.totalAmount())
+                .meanPerRequest(summary.mean())
+                .maxPerRequest((long) summary.max())
+                .meanHeldMillis(held == null ? 0 : held.mean(TimeUnit.MILLISECONDS))
+                .maxHeldMillis(held == null ? 0 : held.max(TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    private static QueryStatisticsDTO toDTO(String query, QueryStatistics queryStatistics) {
+        return QueryStatisticsDTO.builder()
+                .query(query)
+                .executionCount(queryStatistics.getExecutionCount())
+                .rowCount(queryStatistics.getExecutionRowCount())
+                .totalMillis(queryStatistics.getExecutionTotalTime())
+                .meanMillis(queryStatistics.getExecutionAvgTime())
+                .maxMillis(queryStatistics.getExecutionMaxTime())
+                .minMillis(queryStatistics.getExecutionMinTime())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ideas2it.employeeManagement.diagnostics.diagnosticsDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * Pooled connections acquired by the requests to one endpoint since startup,
+ * and how long the requests held them.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConnectionUsageDTO {
+    private String method;
+    private String uri;
+    private long requests;
+    private long connections;
+    private double meanPerRequest;
+    private long maxPerRequest;
+    private double meanHeldMillis;
+    private double maxHeldMillis;
+}
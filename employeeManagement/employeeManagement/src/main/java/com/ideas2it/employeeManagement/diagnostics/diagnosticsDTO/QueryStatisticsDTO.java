@@ -0,0 +1,28 @@
+package com.ideas2it.employeeManagement.diagnostics.diagnosticsDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * Aggregated execution statistics of one JPQL/HQL query, as collected by
+ * Hibernate statistics since startup.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QueryStatisticsDTO {
+    private String query;
+    private long executionCount;
+    private long rowCount;
+    private long totalMillis;
+    private long meanMillis;
+    private long maxMillis;
+    private long minMillis;
+}
@@ -0,0 +1,29 @@
+package com.ideas2it.employeeManagement.diagnostics.diagnosticsDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * Snapshot of the request execution mode and connection pool, used to compare
+ * the virtual-thread and platform-thread modes under the same load.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ThreadingReportDTO {
+    private boolean virtualThreads;
+    private long pinnedEvents;
+    private int liveThreads;
+    private int peakThreads;
+    private int poolMaximumSize;
+    private int poolActiveConnections;
+    private int poolIdleConnections;
+    private int poolThreadsAwaitingConnection;
+}
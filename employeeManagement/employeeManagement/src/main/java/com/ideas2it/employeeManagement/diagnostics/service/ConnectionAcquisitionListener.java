@@ -0,0 +1,80 @@
+package com.ideas2it.employeeManagement.diagnostics.service;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * <p>
+ * Counts the connections taken from the pool by the current thread between
+ * {@link #start()} and {@link #stop()}, and how long the thread held at least
+ * one of them. Used to measure the connections a request needs: a request whose
+ * work shares one transaction acquires one connection, one whose repository calls
+ * each run in their own acquires several, and one that keeps its connection open
+ * until the response is written holds it for the whole request.
+ * </p>
+ */
+public class ConnectionAcquisitionListener implements MethodExecutionListener {
+
+    private final ThreadLocal<Usage> usage = new ThreadLocal<>();
+
+    public void start() {
+        usage.set(new Usage());
+    }
+
+    public Usage stop() {
+        Usage current = usage.get();
+        usage.remove();
+        if (current == null) {
+            return new Usage();
+        }
+        if (current.open > 0) {
+            current.heldNanos += System.nanoTime() - current.openedAt;
+        }
+        return current;
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        Usage current = usage.get();
+        if (current == null || executionContext.getThrown() != null) {
+            return;
+        }
+        String method = executionContext.getMethod().getName();
+        if (executionContext.getTarget() instanceof DataSource && method.equals("getConnection")) {
+            current.acquired++;
+            if (current.open++ == 0) {
+                current.openedAt = System.nanoTime();
+            }
+        } else if (executionContext.getTarget() instanceof Connection && method.equals("close") && current.open > 0) {
+            if (--current.open == 0) {
+                current.heldNanos += System.nanoTime() - current.openedAt;
+            }
+        }
+    }
+
+    public static class Usage {
+
+        private int acquired;
+
+        private int open;
+
+        private long openedAt;
+
+        private long heldNanos;
+
+        public int getAcquired() {
+            return acquired;
+        }
+
+        public long getHeldNanos() {
+            return heldNanos;
+        }
+    }
+}
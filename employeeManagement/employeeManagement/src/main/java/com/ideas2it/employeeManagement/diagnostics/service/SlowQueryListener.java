@@ -0,0 +1,75 @@
+package com.ideas2it.employeeManagement.diagnostics.service;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Logs every JDBC statement that takes longer than the configured threshold,
+ * together with its bind parameters and the service method that issued it.
+ * Statements under the threshold cost one timestamp comparison and are not
+ * logged at all, unlike {@code spring.jpa.show-sql} which printed every statement.
+ * </p>
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryListener.class);
+
+    private static final String APPLICATION_PACKAGE = "com.ideas2it.employeeManagement.";
+
+    private final long thresholdMillis;
+
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    private final LongAdder slowQueries = new LongAdder();
+
+    public SlowQueryListener(Duration threshold) {
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queries) {
+        if (executionInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+        slowQueries.increment();
+        logger.warn("Slow query from {}: {}", findCaller(),
+                logEntryCreator.getLogEntry(executionInfo, queries, false, false, false));
+    }
+
+    public long getSlowQueries() {
+        return slowQueries.sum();
+    }
+
+    /**
+     * The closest service method on the stack, or the closest application class
+     * when the statement was not issued through a service.
+     */
+    private static String findCaller() {
+        List<StackWalker.StackFrame> frames = StackWalker.getInstance().walk(stream -> stream
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .filter(frame -> !frame.getClassName().startsWith(APPLICATION_PACKAGE + "diagnostics.")
+                        && !frame.getClassName().startsWith(APPLICATION_PACKAGE + "metrics."))
+                .toList());
+        return frames.stream()
+                .filter(frame -> frame.getClassName().endsWith("ServiceImpl"))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,85 @@
+package com.ideas2it.employeeManagement.diagnostics.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Watches for virtual threads that stay pinned to their carrier thread, which
+ * happens when a virtual thread blocks inside a {@code synchronized} block or a
+ * native frame (for example a JDBC driver or pool holding a monitor while waiting
+ * on the network). Pinned virtual threads hold a carrier for the whole wait and
+ * cancel out the benefit of the virtual-thread mode, so every pin longer than the
+ * configured threshold is counted and logged with the top of its stack.
+ * </p>
+ * <p>
+ * The monitor listens to the JDK Flight Recorder {@code jdk.VirtualThreadPinned}
+ * event and only runs when virtual threads are enabled.
+ * </p>
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${employee-management.diagnostics.pinned-threshold:20ms}")
+    private Duration pinnedThreshold;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(pinnedThreshold).withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recordingStream.startAsync();
+        logger.info("Virtual thread pinning monitor started, threshold {}", pinnedThreshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        logger.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- ")));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ideas2it.employeeManagement.directory.controller;
+
+import com.ideas2it.employeeManagement.directory.directoryDTO.DirectoryStatsDTO;
+import com.ideas2it.employeeManagement.directory.service.EmployeeDirectoryService;
+import com.ideas2it.employeeManagement.employee.employeeDTO.DirectoryEntryDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for searching the in-memory employee directory.
+ *
+ * <p>
+ * {@code /api/employees/search?q=ann} answers typeahead queries on employee
+ * names, optionally narrowed by {@code place} and {@code departmentId}, which
+ * can also be used without a name. {@code /api/employees/search?id=42} looks an
+ * employee up by ID. The directory is opt-in: while it is disabled these
+ * endpoints answer 404 Not Found, and 503 Service Unavailable until the index
+ * has been built.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/employees/search")
+public class EmployeeDirectoryController {
+
+    private static final int MAX_RESULTS = 100;
+
+    @Autowired
+    private EmployeeDirectoryService employeeDirectoryService;
+
+    @GetMapping
+    public ResponseEntity<List<DirectoryEntryDTO>> search(@RequestParam(required = false) String q,
+                                                          @RequestParam(required = false) String place,
+                                                          @RequestParam(required = false) Long departmentId,
+                                                          @RequestParam(defaultValue = "10") int limit) {
+        HttpStatus unavailable = checkAvailable();
+        if (unavailable != null) {
+            return new ResponseEntity<>(unavailable);
+        }
+        if ((q == null || q.isBlank()) && place == null && departmentId == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return ResponseEntity.ok(employeeDirectoryService.search(q, place, departmentId,
+                Math.clamp(limit, 1, MAX_RESULTS)));
+    }
+
+    @GetMapping(params = "id")
+    public ResponseEntity<DirectoryEntryDTO> findById(@RequestParam Long id) {
+        HttpStatus unavailable = checkAvailable();
+        if (unavailable != null) {
+            return new ResponseEntity<>(unavailable);
+        }
+        return employeeDirectoryService.findById(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping("/stats")
+    public DirectoryStatsDTO getStats() {
+        return employeeDirectoryService.getStats();
+    }
+
+    private HttpStatus checkAvailable() {
+        if (!employeeDirectoryService.isEnabled()) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (!employeeDirectoryService.isReady()) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ideas2it.employeeManagement.directory.directoryDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * Size and speed of the in-memory employee directory: how many employees and
+ * postings it holds, an estimate of the heap it takes in total and per employee,
+ * how long the initial build took and the latency of the searches served so far.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DirectoryStatsDTO {
+    private boolean enabled;
+    private boolean ready;
+    private int employees;
+    private int keys;
+    private long postings;
+    private long estimatedBytes;
+    private long bytesPerEmployee;
+    private long buildMillis;
+    private long searches;
+    private double meanSearchMicros;
+    private double p50SearchMicros;
+    private double p99SearchMicros;
+    private double maxSearchMicros;
+}
@@ -0,0 +1,417 @@
+package com.ideas2it.employeeManagement.directory.service;
+
+import com.ideas2it.employeeManagement.employee.employeeDTO.DirectoryEntryDTO;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * <p>
+ * In-memory index of the employee directory. Every key maps to a posting list,
+ * a sorted array of primitive employee IDs, so lists can be intersected without
+ * boxing and each posting costs eight bytes.
+ * </p>
+ * <p>
+ * Names are indexed by their trigrams for queries of three characters or more,
+ * and by the one and two character prefixes of their words for shorter ones.
+ * Places and departments each have an inverted index of their own. Names and
+ * places are compared in lower case with runs of other characters than letters
+ * and digits folded to one space.
+ * </p>
+ * <p>
+ * Not thread-safe; {@link EmployeeDirectoryService} guards it with a lock.
+ * </p>
+ */
+class EmployeeDirectoryIndex {
+
+    private static final int TRIGRAM = 3;
+
+    private static final LongArrayList EMPTY = new LongArrayList(0);
+
+    private static final int OBJECT_BYTES = 16;
+
+    private static final int REFERENCE_BYTES = 4;
+
+    private final Long2ObjectOpenHashMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+
+    private final Long2ObjectOpenHashMap<LongArrayList> trigrams = new Long2ObjectOpenHashMap<>();
+
+    private final Long2ObjectOpenHashMap<LongArrayList> namePrefixes = new Long2ObjectOpenHashMap<>();
+
+    private final Long2ObjectOpenHashMap<LongArrayList> wordPrefixes = new Long2ObjectOpenHashMap<>();
+
+    private final Map<String, LongArrayList> places = new HashMap<>();
+
+    private final Long2ObjectOpenHashMap<LongArrayList> departments = new Long2ObjectOpenHashMap<>();
+
+    private final Map<String, String> placeNames = new HashMap<>();
+
+    /**
+     * Department IDs are kept as primitives, with 0 for an employee without a
+     * department; generated IDs start at 1.
+     */
+    private record Entry(String name, String place, long departmentId) {
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void put(DirectoryEntryDTO entry) {
+        long employeeId = entry.getEmployeeId();
+        remove(employeeId);
+        String place = entry.getPlace() == null ? null : placeNames.computeIfAbsent(entry.getPlace(), p -> p);
+        Entry indexed = new Entry(entry.getEmployeeName(), place,
+                entry.getDepartmentId() == null ? 0 : entry.getDepartmentId());
+        entries.put(employeeId, indexed);
+        String name = normalize(indexed.name());
+        for (long trigram : trigramsOf(name)) {
+            add(trigrams, trigram, employeeId);
+        }
+        for (long prefix : prefixesOf(firstWordOf(name))) {
+            add(namePrefixes, prefix, employeeId);
+        }
+        for (long prefix : wordPrefixesOf(name)) {
+            add(wordPrefixes, prefix, employeeId);
+        }
+        String placeKey = normalize(place);
+        if (!placeKey.isEmpty()) {
+            add(places.computeIfAbsent(placeKey, key -> new LongArrayList(1)), employeeId);
+        }
+        if (indexed.departmentId() != 0) {
+            add(departments, indexed.departmentId(), employeeId);
+        }
+    }
+
+    void remove(long employeeId) {
+        Entry indexed = entries.remove(employeeId);
+        if (indexed == null) {
+            return;
+        }
+        String name = normalize(indexed.name());
+        for (long trigram : trigramsOf(name)) {
+            remove(trigrams, trigram, employeeId);
+        }
+        for (long prefix : prefixesOf(firstWordOf(name))) {
+            remove(namePrefixes, prefix, employeeId);
+        }
+        for (long prefix : wordPrefixesOf(name)) {
+            remove(wordPrefixes, prefix, employeeId);
+        }
+        String placeKey = normalize(indexed.place());
+        LongArrayList placePostings = places.get(placeKey);
+        if (placePostings != null && remove(placePostings, employeeId) && placePostings.isEmpty()) {
+            places.remove(placeKey);
+        }
+        if (indexed.departmentId() != 0) {
+            remove(departments, indexed.departmentId(), employeeId);
+        }
+    }
+
+    DirectoryEntryDTO get(long employeeId) {
+        Entry indexed = entries.get(employeeId);
+        return indexed == null ? null : toDTO(employeeId, indexed);
+    }
+
+    LongSet employeesOfDepartments(Collection<Long> departmentIds) {
+        LongSet employeeIds = new LongOpenHashSet();
+        for (Long departmentId : departmentIds) {
+            employeeIds.addAll(departments.getOrDefault((long) departmentId, EMPTY));
+        }
+        return employeeIds;
+    }
+
+    /**
+     * Returns up to {@code limit} employees matching every given criterion.
+     * Name matches come first when the name starts with the query, then when
+     * one of its words does, then when the query occurs anywhere in it; each
+     * group is in employee ID order. The shortest posting list involved drives
+     * the search and every other one is only probed, so a search stops as soon
+     * as enough matches are found instead of intersecting whole lists.
+     */
+    List<DirectoryEntryDTO> search(String query, String place, Long departmentId, int limit) {
+        List<LongArrayList> filters = new ArrayList<>(2);
+        if (place != null) {
+            filters.add(places.getOrDefault(normalize(place), EMPTY));
+        }
+        if (departmentId != null) {
+            filters.add(departments.getOrDefault((long) departmentId, EMPTY));
+        }
+        String name = query == null ? "" : normalize(query);
+        LongArrayList matches;
+        if (name.isEmpty()) {
+            matches = match(filters, null, limit);
+        } else if (name.length() < TRIGRAM) {
+            matches = searchByPrefix(name, filters, limit);
+        } else {
+            matches = searchByTrigrams(name, filters, limit);
+        }
+        List<DirectoryEntryDTO> results = new ArrayList<>(matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            long employeeId = matches.getLong(i);
+            results.add(toDTO(employeeId, entries.get(employeeId)));
+        }
+        return results;
+    }
+
+    private LongArrayList searchByPrefix(String prefix, List<LongArrayList> filters, int limit) {
+        long key = prefixKey(prefix);
+        LongArrayList first = namePrefixes.getOrDefault(key, EMPTY);
+        LongArrayList matches = match(with(filters, first), null, limit);
+        if (matches.size() < limit) {
+            LongArrayList words = match(with(filters, wordPrefixes.getOrDefault(key, EMPTY)),
+                    employeeId -> !contains(first, employeeId), limit - matches.size());
+            matches.addAll(words);
+        }
+        return matches;
+    }
+
+    private LongArrayList searchByTrigrams(String query, List<LongArrayList> filters, int limit) {
+        List<LongArrayList> postings = new ArrayList<>(filters);
+        for (long trigram : trigramsOf(query)) {
+            LongArrayList trigramPostings = trigrams.get(trigram);
+            if (trigramPostings == null) {
+                return EMPTY;
+            }
+            postings.add(trigramPostings);
+        }
+        LongArrayList wordStartsWith = new LongArrayList();
+        LongArrayList containing = new LongArrayList();
+        LongArrayList startsWith = match(postings, employeeId -> {
+            String name = normalize(entries.get(employeeId).name());
+            int position = name.indexOf(query);
+            if (position > 0) {
+                (name.charAt(position - 1) == ' ' ? wordStartsWith : containing).add(employeeId);
+            }
+            return position == 0;
+        }, limit);
+        startsWith.addAll(wordStartsWith);
+        startsWith.addAll(containing);
+        startsWith.size(Math.min(startsWith.size(), limit));
+        return startsWith;
+    }
+
+    /**
+     * Walks the shortest of the given posting lists and collects, in ID order, up
+     * to {@code limit} IDs found in all of them and accepted by the condition.
+     * No posting lists at all match nothing.
+     */
+    private static LongArrayList match(List<LongArrayList> postings, LongPredicate condition, int limit) {
+        LongArrayList matches = new LongArrayList();
+        if (postings.isEmpty()) {
+            return matches;
+        }
+        LongArrayList shortest = postings.get(0);
+        for (LongArrayList candidate : postings) {
+            if (candidate.size() < shortest.size()) {
+                shortest = candidate;
+            }
+        }
+        for (int i = 0; i < shortest.size() && matches.size() < limit; i++) {
+            long employeeId = shortest.getLong(i);
+            if (containedInAll(postings, shortest, employeeId)
+                    && (condition == null || condition.test(employeeId))) {
+                matches.add(employeeId);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containedInAll(List<LongArrayList> postings, LongArrayList except, long employeeId) {
+        for (LongArrayList candidate : postings) {
+            if (candidate != except && !contains(candidate, employeeId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<LongArrayList> with(List<LongArrayList> filters, LongArrayList postings) {
+        List<LongArrayList> combined = new ArrayList<>(filters);
+        combined.add(postings);
+        return combined;
+    }
+
+    /**
+     * A rough count of the heap held by the index, from the sizes of its arrays
+     * and entries under compressed object pointers.
+     */
+    long estimateBytes() {
+        long bytes = mapBytes(entries.size());
+        for (Entry indexed : entries.values()) {
+            bytes += OBJECT_BYTES + 2L * REFERENCE_BYTES + Long.BYTES + stringBytes(indexed.name());
+        }
+        for (String place : placeNames.keySet()) {
+            bytes += stringBytes(place);
+        }
+        bytes += postingsBytes(trigrams) + postingsBytes(namePrefixes) + postingsBytes(wordPrefixes)
+                + postingsBytes(departments);
+        for (Map.Entry<String, LongArrayList> place : places.entrySet()) {
+            bytes += 2L * OBJECT_BYTES + stringBytes(place.getKey()) + listBytes(place.getValue());
+        }
+        return bytes;
+    }
+
+    long postings() {
+        long postings = 0;
+        for (Collection<LongArrayList> index : List.of(trigrams.values(), namePrefixes.values(),
+                wordPrefixes.values(), places.values(), departments.values())) {
+            for (LongArrayList list : index) {
+                postings += list.size();
+            }
+        }
+        return postings;
+    }
+
+    int keys() {
+        return trigrams.size() + namePrefixes.size() + wordPrefixes.size() + places.size() + departments.size();
+    }
+
+    /**
+     * Drops the spare capacity left in the posting lists after the initial build.
+     */
+    void trim() {
+        for (Collection<LongArrayList> index : List.of(trigrams.values(), namePrefixes.values(),
+                wordPrefixes.values(), places.values(), departments.values())) {
+            index.forEach(LongArrayList::trim);
+        }
+        entries.trim();
+        trigrams.trim();
+        namePrefixes.trim();
+        wordPrefixes.trim();
+        departments.trim();
+    }
+
+    private static DirectoryEntryDTO toDTO(long employeeId, Entry indexed) {
+        return new DirectoryEntryDTO(employeeId, indexed.name(), indexed.place(),
+                indexed.departmentId() == 0 ? null : indexed.departmentId());
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean separator = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (separator && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static String firstWordOf(String name) {
+        int end = name.indexOf(' ');
+        return end < 0 ? name : name.substring(0, end);
+    }
+
+    private static LongSet trigramsOf(String text) {
+        LongSet keys = new LongOpenHashSet();
+        for (int i = 0; i + TRIGRAM <= text.length(); i++) {
+            keys.add((long) text.charAt(i) << 32 | (long) text.charAt(i + 1) << 16 | text.charAt(i + 2));
+        }
+        return keys;
+    }
+
+    private static LongSet prefixesOf(String word) {
+        LongSet keys = new LongOpenHashSet(2);
+        if (!word.isEmpty()) {
+            keys.add(prefixKey(word.substring(0, 1)));
+        }
+        if (word.length() > 1) {
+            keys.add(prefixKey(word.substring(0, 2)));
+        }
+        return keys;
+    }
+
+    private static LongSet wordPrefixesOf(String name) {
+        LongSet keys = new LongOpenHashSet();
+        for (String word : name.split(" ")) {
+            keys.addAll(prefixesOf(word));
+        }
+        return keys;
+    }
+
+    /**
+     * One and two character prefixes are told apart by a marker bit above the
+     * two characters.
+     */
+    private static long prefixKey(String prefix) {
+        return prefix.length() == 1 ? prefix.charAt(0) : 1L << 32 | (long) prefix.charAt(0) << 16 | prefix.charAt(1);
+    }
+
+    private static void add(Long2ObjectMap<LongArrayList> index, long key, long employeeId) {
+        LongArrayList postings = index.get(key);
+        if (postings == null) {
+            postings = new LongArrayList(1);
+            index.put(key, postings);
+        }
+        add(postings, employeeId);
+    }
+
+    private static void add(LongArrayList postings, long employeeId) {
+        int position = LongArrays.binarySearch(postings.elements(), 0, postings.size(), employeeId);
+        if (position < 0) {
+            postings.add(-position - 1, employeeId);
+        }
+    }
+
+    private static void remove(Long2ObjectMap<LongArrayList> index, long key, long employeeId) {
+        LongArrayList postings = index.get(key);
+        if (postings != null && remove(postings, employeeId) && postings.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static boolean remove(LongArrayList postings, long employeeId) {
+        int position = LongArrays.binarySearch(postings.elements(), 0, postings.size(), employeeId);
+        if (position < 0) {
+            return false;
+        }
+        postings.removeLong(position);
+        return true;
+    }
+
+    private static boolean contains(LongArrayList postings, long employeeId) {
+        return LongArrays.binarySearch(postings.elements(), 0, postings.size(), employeeId) >= 0;
+    }
+
+    private static long postingsBytes(Long2ObjectOpenHashMap<LongArrayList> index) {
+        long bytes = mapBytes(index.size());
+        for (LongArrayList postings : index.values()) {
+            bytes += listBytes(postings);
+        }
+        return bytes;
+    }
+
+    private static long mapBytes(int size) {
+        return (long) HashCommon.arraySize(size, 0.75f) * (Long.BYTES + REFERENCE_BYTES) + 2L * OBJECT_BYTES;
+    }
+
+    private static long listBytes(LongArrayList postings) {
+        return 2L * OBJECT_BYTES + (long) postings.elements().length * Long.BYTES;
+    }
+
+    private static long stringBytes(String text) {
+        return 2L * OBJECT_BYTES + 8 + text.length();
+    }
+}
@@ -0,0 +1,222 @@
+package com.ideas2it.employeeManagement.directory.service;
+
+import com.ideas2it.employeeManagement.directory.directoryDTO.DirectoryStatsDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.DirectoryEntryDTO;
+import com.ideas2it.employeeManagement.employee.respository.EmployeeRepository;
+import com.ideas2it.employeeManagement.employee.service.EmployeesChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Optional in-process employee directory for typeahead search on names and
+ * lookups by ID, place and department, answered from memory without a database
+ * round trip. When enabled, the index is built from the employees table once
+ * the application is ready.
+ * </p>
+ * <p>
+ * The index is kept in step with the database through the
+ * {@link EmployeesChangedEvent}s published by the employee service and the
+ * write-behind flusher. Once the publishing transaction has committed, the
+ * employees it names are read back and replaced in the index, or removed if they
+ * are gone or deleted. Searches share a read lock. Updates are applied one at a
+ * time, reading the database outside the write lock and holding it only to
+ * swap the employees in the index.
+ * </p>
+ */
+@Service
+public class EmployeeDirectoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeDirectoryService.class);
+
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    @Value("${employee-management.directory.enabled:false}")
+    private boolean enabled;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private EmployeeDirectoryIndex index;
+
+    private volatile long buildMillis;
+
+    private Timer searchTimer;
+
+    @PostConstruct
+    public void registerMeters() {
+        searchTimer = Timer.builder("employee_management.directory.search")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        updateLock.lock();
+        lock.writeLock().lock();
+        try {
+            EmployeeDirectoryIndex builtIndex = new EmployeeDirectoryIndex();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<DirectoryEntryDTO> entries = employeeRepository.streamDirectoryEntries()) {
+                    entries.forEach(builtIndex::put);
+                }
+            });
+            builtIndex.trim();
+            index = builtIndex;
+        } finally {
+            lock.writeLock().unlock();
+            updateLock.unlock();
+        }
+        buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Employee directory built with {} employees in {} ms, about {} bytes per employee",
+                index.size(), buildMillis, bytesPerEmployee(index.estimateBytes(), index.size()));
+    }
+
+    /**
+     * Runs after the publishing transaction has committed, still inside it, so
+     * the employees are read back on the connection it holds. An event that
+     * arrives before the initial build is skipped; the build reads the
+     * committed change itself.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesChanged(EmployeesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        updateLock.lock();
+        try {
+            LongArrayList employeeIds;
+            lock.readLock().lock();
+            try {
+                if (index == null) {
+                    return;
+                }
+                LongSet changedIds = index.employeesOfDepartments(event.departmentIds());
+                event.employeeIds().forEach(changedIds::add);
+                employeeIds = new LongArrayList(changedIds);
+            } finally {
+                lock.readLock().unlock();
+            }
+            for (int from = 0; from < employeeIds.size(); from += MAX_IDS_PER_STATEMENT) {
+                List<Long> batch = employeeIds.subList(from,
+                        Math.min(from + MAX_IDS_PER_STATEMENT, employeeIds.size()));
+                List<DirectoryEntryDTO> entries = employeeRepository.findDirectoryEntries(batch);
+                lock.writeLock().lock();
+                try {
+                    batch.forEach(index::remove);
+                    entries.forEach(index::put);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public List<DirectoryEntryDTO> search(String query, String place, Long departmentId, int limit) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return index.search(query, place, departmentId, limit);
+        } finally {
+            lock.readLock().unlock();
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public Optional<DirectoryEntryDTO> findById(Long employeeId) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(index.get(employeeId));
+        } finally {
+            lock.readLock().unlock();
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public DirectoryStatsDTO getStats() {
+        HistogramSnapshot snapshot = searchTimer.takeSnapshot();
+        DirectoryStatsDTO.DirectoryStatsDTOBuilder stats = DirectoryStatsDTO.builder()
+                .enabled(enabled)
+                .buildMillis(buildMillis)
+                .searches(snapshot.count())
+                .meanSearchMicros(snapshot.mean(TimeUnit.MICROSECONDS))
+                .maxSearchMicros(snapshot.max(TimeUnit.MICROSECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            if (percentile.percentile() == 0.5) {
+                stats.p50SearchMicros(percentile.value(TimeUnit.MICROSECONDS));
+            } else if (percentile.percentile() == 0.99) {
+                stats.p99SearchMicros(percentile.value(TimeUnit.MICROSECONDS));
+            }
+        }
+        lock.readLock().lock();
+        try {
+            if (index != null) {
+                long estimatedBytes = index.estimateBytes();
+                stats.ready(true)
+                        .employees(index.size())
+                        .keys(index.keys())
+                        .postings(index.postings())
+                        .estimatedBytes(estimatedBytes)
+                        .bytesPerEmployee(bytesPerEmployee(estimatedBytes, index.size()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return stats.build();
+    }
+
+    private static long bytesPerEmployee(long bytes, int employees) {
+        return employees == 0 ? 0 : bytes / employees;
+    }
+}
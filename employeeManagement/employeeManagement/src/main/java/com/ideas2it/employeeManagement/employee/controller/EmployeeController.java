@@ -1,19 +1,42 @@
 package com.ideas2it.employeeManagement.employee.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ideas2it.employeeManagement.common.ETags;
+import com.ideas2it.employeeManagement.common.ExportFormat;
+import com.ideas2it.employeeManagement.common.ExportWriter;
+import com.ideas2it.employeeManagement.common.ExportWriterFactory;
+import com.ideas2it.employeeManagement.employee.employeeDTO.BulkDeleteResultDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.BulkImportResultDTO;
 import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeFilterDTO;
+import com.ideas2it.employeeManagement.employee.respository.EmployeeSpecifications;
 import com.ideas2it.employeeManagement.mapper.EmployeeMapper;
 import com.ideas2it.employeeManagement.department.service.DepartmentService;
 import com.ideas2it.employeeManagement.employee.service.EmployeeService;
 import com.ideas2it.employeeManagement.project.service.ProjectService;
+import com.ideas2it.employeeManagement.writebehind.service.WriteBehindQueue;
 import com.ideas2it.employeeManagement.model.Department;
 import com.ideas2it.employeeManagement.model.Employee;
 import com.ideas2it.employeeManagement.model.Project;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -34,6 +57,8 @@ import java.util.List;
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private EmployeeService employeeService;
 
@@ -43,49 +68,164 @@ public class EmployeeController {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private WriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ExportWriterFactory exportWriterFactory;
+
     @PostMapping
     public EmployeeDTO createEmployee(@RequestBody EmployeeDTO employeeDTO) {
         return EmployeeMapper.convertToDTO(employeeService.createEmployee(EmployeeMapper.convertToEntity(employeeDTO)));
     }
 
+    /**
+     * Imports employees from a JSON array or a newline-delimited JSON stream. The
+     * body is read one employee at a time rather than bound to a list up front.
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BulkImportResultDTO importEmployees(HttpServletRequest request) throws IOException {
+        try (MappingIterator<EmployeeDTO> employeeDTOs = objectMapper.readerFor(EmployeeDTO.class)
+                .readValues(request.getInputStream())) {
+            return employeeService.importEmployees(employeeDTOs);
+        }
+    }
+
+    /**
+     * Returns the employee with its version as the ETag. A request whose
+     * If-None-Match still names the current version gets 304 Not Modified from
+     * the version alone, without the employee being loaded or serialized.
+     */
     @GetMapping("/{id}")
-    public EmployeeDTO getEmployeeById(@PathVariable Long id) {
-        return EmployeeMapper.convertToDTO(employeeService.getEmployeeById(id));
+    public ResponseEntity<EmployeeDTO> getEmployeeById(@PathVariable Long id, WebRequest request) {
+        String eTag = ETags.of(employeeService.getEmployeeVersion(id));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(employeeService.getEmployeeDTOById(id));
     }
 
     @GetMapping
     public List<EmployeeDTO> getAllEmployees() {
-        List<EmployeeDTO> employeeDTOs = new ArrayList<>();
-        List<Employee> employees = employeeService.getAllEmployees();
-        for (Employee employee : employees) {
-            employeeDTOs.add(EmployeeMapper.convertToDTO(employee));
+        return employeeService.getAllEmployeeDTOs();
+    }
+
+    /**
+     * Returns the next page of employees after the given employee ID. Clients
+     * pass the ID of the last employee they received as the next cursor.
+     */
+    @GetMapping(params = "limit")
+    public List<EmployeeDTO> getEmployeesAfter(@RequestParam(defaultValue = "0") Long after,
+                                               @RequestParam int limit) {
+        return employeeService.getEmployeeDTOsAfter(after, Math.clamp(limit, 1, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Writes every employee straight from the database cursor, so memory use
+     * stays flat regardless of the number of employees. The format is the first
+     * of JSON, CBOR, Smile or CSV named by the Accept header, JSON by default.
+     */
+    @GetMapping("/stream")
+    public void streamAllEmployees(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                   HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+        ExportFormat format = ExportFormat.fromAccept(accept);
+        try (ExportWriter writer = exportWriterFactory.open(format, EmployeeDTO.class, response)) {
+            employeeService.streamAllEmployees(writer::write);
         }
-        return employeeDTOs;
     }
 
-    @PutMapping
-    public EmployeeDTO updateEmployee(@PathVariable Long id, @RequestBody EmployeeDTO employeeDTO) {
-        return EmployeeMapper.convertToDTO(employeeService.updateEmployee(id, EmployeeMapper.convertToEntity(employeeDTO)));
+    /**
+     * Serves the employee list to clients asking for CBOR, Smile or CSV from the
+     * same cursor as {@code /stream}, so bulk exports of the list are never
+     * buffered. JSON requests keep going to {@link #getAllEmployees()}.
+     */
+    @GetMapping(produces = {ExportFormat.CBOR_VALUE, ExportFormat.SMILE_VALUE, ExportFormat.CSV_VALUE})
+    public void exportEmployees(@RequestHeader(HttpHeaders.ACCEPT) String accept, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        streamAllEmployees(accept, response);
     }
 
+    /**
+     * Searches employees by place, salary, experience, date of birth range and
+     * department name, returning one sorted page. For example
+     * {@code /api/employees/filter?place=Chennai&minSalary=50000&departmentName=Sales&sort=salary,desc}.
+     * Sorting by anything but {@link EmployeeSpecifications#SORTABLE_PROPERTIES}
+     * answers 400 Bad Request.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<PagedModel<EmployeeDTO>> filterEmployees(EmployeeFilterDTO filter,
+                                                                   @PageableDefault(size = 20, sort = "employeeId") Pageable pageable) {
+        if (!pageable.getSort().stream()
+                .allMatch(order -> EmployeeSpecifications.SORTABLE_PROPERTIES.contains(order.getProperty()))) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return ResponseEntity.ok(new PagedModel<>(employeeService.searchEmployees(filter, pageable)
+                .map(EmployeeMapper::convertToDTO)));
+    }
+
+    /**
+     * Updates the employee. With an If-Match header the update only applies to
+     * the version it names and answers 412 Precondition Failed otherwise.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<EmployeeDTO> updateEmployee(@PathVariable Long id, @RequestBody EmployeeDTO employeeDTO,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            Employee employee = EmployeeMapper.convertToEntity(employeeDTO);
+            employee.setVersion(ETags.parseVersion(ifMatch));
+            Employee updatedEmployee = employeeService.updateEmployee(id, employee);
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(updatedEmployee.getVersion()))
+                    .body(EmployeeMapper.convertToDTO(updatedEmployee));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+    }
+
+    /**
+     * Deletes the employee, or in write-behind mode queues the delete and
+     * answers 202 Accepted.
+     */
     @DeleteMapping("/{id}")
-    public void deleteEmployee(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.deleteEmployee(id);
+            return ResponseEntity.accepted().build();
+        }
         employeeService.deleteEmployee(id);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Deletes many employees at once, e.g. {@code DELETE /api/employees?ids=4,8,15},
+     * with set-based updates rather than one round trip per employee.
+     */
+    @DeleteMapping(params = "ids")
+    public BulkDeleteResultDTO deleteEmployees(@RequestParam List<Long> ids) {
+        int requested = (int) ids.stream().distinct().count();
+        return new BulkDeleteResultDTO(requested, employeeService.deleteEmployees(ids));
     }
 
     @PutMapping("/{employeeId}/departments/{departmentId}")
-    public EmployeeDTO assignEmployeeToDepartment(@PathVariable Long employeeId, @PathVariable Long departmentId) {
-        Employee employee = employeeService.getEmployeeById(employeeId);
+    public ResponseEntity<EmployeeDTO> assignEmployeeToDepartment(@PathVariable Long employeeId, @PathVariable Long departmentId) {
         Department department = departmentService.getDepartmentById(departmentId);
-        employee.setDepartment(department);
-        employeeService.updateEmployee(employeeId, employee);
-        return EmployeeMapper.convertToDTO(employee);
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.assignEmployeeToDepartment(employeeId, department.getDepartmentId());
+            return ResponseEntity.accepted().build();
+        }
+        return ResponseEntity.ok(EmployeeMapper.convertToDTO(employeeService.assignEmployeeToDepartment(employeeId, department)));
     }
 
     @PutMapping("/{employeeId}/projects/{projectId}")
-    public EmployeeDTO assignEmployeeToProject(@PathVariable Long employeeId, @PathVariable Long projectId) {
-        Employee employee = employeeService.getEmployeeById(employeeId);
+    public ResponseEntity<EmployeeDTO> assignEmployeeToProject(@PathVariable Long employeeId, @PathVariable Long projectId) {
         Project project = projectService.getProjectById(projectId);
-        return employeeService.assignEmployeeToProject(employeeId, employee, project);
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.assignEmployeeToProject(employeeId, project.getProjectId());
+            return ResponseEntity.accepted().build();
+        }
+        return ResponseEntity.ok(EmployeeMapper.convertToDTO(employeeService.assignEmployeeToProject(employeeId, project)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.ideas2it.employeeManagement.employee.employeeDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * Outcome of a bulk delete: how many distinct IDs were given and how many of
+ * them named a live employee that has now been deleted.
+ * </p>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkDeleteResultDTO {
+    private int requested;
+    private int deleted;
+}
@@ -0,0 +1,37 @@
+package com.ideas2it.employeeManagement.employee.employeeDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Outcome of a bulk employee import: how many rows were read, how many were
+ * stored and, for every row that could not be stored, its 1-based position in
+ * the input together with the reason.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkImportResultDTO {
+
+    private int received;
+    private int imported;
+    private List<RowFailure> failures = new ArrayList<>();
+
+    public void addFailure(int row, String message) {
+        failures.add(new RowFailure(row, message));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowFailure {
+        private int row;
+        private String message;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ideas2it.employeeManagement.employee.employeeDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>
+ * The fields of an employee held by the in-memory employee directory and
+ * returned by its searches: enough to show and pick an employee, nothing more.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectoryEntryDTO {
+    private Long employeeId;
+    private String employeeName;
+    private String place;
+    private Long departmentId;
+}
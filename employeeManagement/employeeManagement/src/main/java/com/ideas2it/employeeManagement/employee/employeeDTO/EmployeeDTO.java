@@ -1,9 +1,11 @@
 package com.ideas2it.employeeManagement.employee.employeeDTO;
 
 import com.ideas2it.employeeManagement.model.Department;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
@@ -22,6 +24,8 @@ import java.time.LocalDate;
 @Builder
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class EmployeeDTO {
 
 
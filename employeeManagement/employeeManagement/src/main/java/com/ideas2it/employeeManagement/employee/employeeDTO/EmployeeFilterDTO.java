@@ -0,0 +1,34 @@
+package com.ideas2it.employeeManagement.employee.employeeDTO;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * <p>
+ * Filter criteria for searching employees, bound from the query string. Every
+ * field is optional and only the criteria that are present are applied; ranges
+ * are inclusive on both ends.
+ * </p>
+ */
+@Getter
+@Setter
+public class EmployeeFilterDTO {
+
+    private String place;
+    private Double minSalary;
+    private Double maxSalary;
+    private Integer minExperience;
+    private Integer maxExperience;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate bornAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate bornBefore;
+
+    private String departmentName;
+
+}
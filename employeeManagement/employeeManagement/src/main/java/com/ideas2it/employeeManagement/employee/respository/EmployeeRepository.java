@@ -1,11 +1,27 @@
 package com.ideas2it.employeeManagement.employee.respository;
 
+import com.ideas2it.employeeManagement.employee.employeeDTO.DirectoryEntryDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
 import com.ideas2it.employeeManagement.model.Employee;
 import com.ideas2it.employeeManagement.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -14,12 +30,108 @@ import java.util.Optional;
  * It leverages Spring Data JPA to simplify data access and query execution.
  * Custom queries can be defined by adding method signatures that follow the naming
  * convention understood by Spring Data JPA.
+ * The entity lookups used before an update fetch the department in the same
+ * statement through an entity graph, so mapping the result does not issue a
+ * further SELECT for the department.
+ * The DTO queries used by the read endpoints select only the columns of an
+ * EmployeeDTO straight into it, so no entity is instantiated, tracked by the
+ * persistence context or snapshotted for dirty checking.
  * </p>
  */
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
 
-    List<Employee> findByIsDeletedFalse();
+    String SELECT_DTO = "select new com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO("
+            + "e.employeeId, e.employeeName, e.place, e.dateOfBirth, e.experience, e.salary, d.departmentName) "
+            + "from Employee e left join e.department d ";
 
+    String SELECT_DIRECTORY_ENTRY = "select new com.ideas2it.employeeManagement.employee.employeeDTO.DirectoryEntryDTO("
+            + "e.employeeId, e.employeeName, e.place, d.departmentId) from Employee e left join e.department d ";
+
+    @EntityGraph(attributePaths = "department")
     Optional<Employee> findByEmployeeIdAndIsDeletedFalse(Long id);
 
+    @Query(SELECT_DTO + "where e.isDeleted = false")
+    List<EmployeeDTO> findAllDTOs();
+
+    @Query(SELECT_DTO + "where e.employeeId = :id and e.isDeleted = false")
+    Optional<EmployeeDTO> findDTOById(@Param("id") Long id);
+
+    /**
+     * Keyset page: the employees whose ID is greater than the given cursor,
+     * in ID order. Seeks straight to the cursor through the primary key
+     * instead of skipping rows like an OFFSET would.
+     */
+    @Query(SELECT_DTO + "where e.isDeleted = false and e.employeeId > :after order by e.employeeId")
+    List<EmployeeDTO> findDTOPageAfter(@Param("after") Long after, Limit limit);
+
+    /**
+     * Streams every non-deleted employee in ID order. Must be consumed inside a
+     * transaction; rows are fetched from the cursor in blocks of the fetch size.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "where e.isDeleted = false order by e.employeeId")
+    Stream<EmployeeDTO> streamAllDTOs();
+
+    @Query(SELECT_DIRECTORY_ENTRY + "where e.isDeleted = false and e.employeeId in :ids")
+    List<DirectoryEntryDTO> findDirectoryEntries(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DIRECTORY_ENTRY + "where e.isDeleted = false order by e.employeeId")
+    Stream<DirectoryEntryDTO> streamDirectoryEntries();
+
+    /**
+     * The version of a live employee, read without loading the entity, so a
+     * conditional GET can be answered before the row is fetched and mapped.
+     */
+    @Query("select e.version from Employee e where e.employeeId = :id and e.isDeleted = false")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(value = SELECT_DTO + "join e.projects p where p.projectId = :projectId and e.isDeleted = false",
+            countQuery = "select count(e) from Employee e join e.projects p "
+                    + "where p.projectId = :projectId and e.isDeleted = false")
+    Page<EmployeeDTO> findDTOsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query("select e.employeeId from Employee e where e.employeeId in :ids and e.isDeleted = false")
+    List<Long> findLiveIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select e.employeeId from Employee e where e.department.departmentId = :departmentId "
+            + "and e.isDeleted = false")
+    List<Long> findLiveIdsByDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query("select distinct e.department.departmentId from Employee e where e.employeeId in :ids")
+    List<Long> findDepartmentIdsByEmployeeIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Soft-deletes every live employee among the given IDs in one statement,
+     * raising their version like an entity update would.
+     */
+    @Modifying
+    @Query("update Employee e set e.isDeleted = true, e.deletedAt = instant, e.version = e.version + 1 "
+            + "where e.employeeId in :ids and e.isDeleted = false")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Employee e set e.department = null, e.version = e.version + 1 "
+            + "where e.department.departmentId = :departmentId and e.isDeleted = false")
+    int detachFromDepartment(@Param("departmentId") Long departmentId);
+
+    @Modifying
+    @Query("update Employee e set e.isDeleted = true, e.deletedAt = instant, e.version = e.version + 1 "
+            + "where e.department.departmentId = :departmentId and e.isDeleted = false")
+    int softDeleteByDepartmentId(@Param("departmentId") Long departmentId);
+
+    /**
+     * Moves the given live employees to the department in one statement. Nothing
+     * is changed when the department does not exist.
+     */
+    @Modifying
+    @Query(value = "update employees set department_id = :departmentId, version = version + 1 "
+            + "where employee_id in (:ids) and is_deleted = false "
+            + "and exists (select 1 from departments d where d.department_id = :departmentId)", nativeQuery = true)
+    int assignDepartment(@Param("ids") Collection<Long> ids, @Param("departmentId") Long departmentId);
+
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Page<Employee> findAll(Specification<Employee> specification, Pageable pageable);
+
 }
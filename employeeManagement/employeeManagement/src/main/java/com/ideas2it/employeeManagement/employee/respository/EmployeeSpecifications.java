@@ -0,0 +1,70 @@
+package com.ideas2it.employeeManagement.employee.respository;
+
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeFilterDTO;
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * Builds the JPA Specification for an employee search. All criteria are combined
+ * into the WHERE clause of a single query. A department name is matched by an
+ * exists subquery rather than a join, so the only join on departments stays the
+ * one fetching each employee's department with the results.
+ * </p>
+ */
+public class EmployeeSpecifications {
+
+    /**
+     * The properties a search may be sorted by: the primary key and the columns
+     * of the search indexes. Sorting by any other property would either sort
+     * the whole match without an index or, through a collection, repeat
+     * employees across the page.
+     */
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("employeeId", "place", "salary", "experience",
+            "dateOfBirth");
+
+    public static Specification<Employee> matching(EmployeeFilterDTO filter) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(builder.isFalse(root.get("isDeleted")));
+            if (filter.getPlace() != null) {
+                predicates.add(builder.equal(root.get("place"), filter.getPlace()));
+            }
+            if (filter.getMinSalary() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("salary"), filter.getMinSalary()));
+            }
+            if (filter.getMaxSalary() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("salary"), filter.getMaxSalary()));
+            }
+            if (filter.getMinExperience() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("experience"), filter.getMinExperience()));
+            }
+            if (filter.getMaxExperience() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("experience"), filter.getMaxExperience()));
+            }
+            if (filter.getBornAfter() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("dateOfBirth"), filter.getBornAfter()));
+            }
+            if (filter.getBornBefore() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("dateOfBirth"), filter.getBornBefore()));
+            }
+            if (filter.getDepartmentName() != null) {
+                Subquery<Long> inDepartment = query.subquery(Long.class);
+                Root<Department> department = inDepartment.from(Department.class);
+                inDepartment.select(builder.literal(1L)).where(
+                        builder.equal(department.get("departmentId"), root.get("department").get("departmentId")),
+                        builder.equal(department.get("departmentName"), filter.getDepartmentName()));
+                predicates.add(builder.exists(inDepartment));
+            }
+            return builder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -1,11 +1,19 @@
 package com.ideas2it.employeeManagement.employee.service;
 
+import com.ideas2it.employeeManagement.employee.employeeDTO.BulkImportResultDTO;
 import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeFilterDTO;
+import com.ideas2it.employeeManagement.model.Department;
 import com.ideas2it.employeeManagement.model.Employee;
 import com.ideas2it.employeeManagement.model.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -18,13 +26,35 @@ import java.util.List;
 public interface EmployeeService {
     Employee createEmployee(Employee employee);
 
+    BulkImportResultDTO importEmployees(Iterator<EmployeeDTO> employeeDTOs);
+
     Employee getEmployeeById(Long id);
 
-    List<Employee> getAllEmployees();
+    EmployeeDTO getEmployeeDTOById(Long id);
+
+    Long getEmployeeVersion(Long id);
+
+    List<EmployeeDTO> getAllEmployeeDTOs();
+
+    List<EmployeeDTO> getEmployeeDTOsAfter(Long after, int limit);
+
+    void streamAllEmployees(Consumer<EmployeeDTO> action);
+
+    Page<Employee> searchEmployees(EmployeeFilterDTO filter, Pageable pageable);
 
     Employee updateEmployee(Long id, Employee employee);
 
     void deleteEmployee(Long id);
 
-    EmployeeDTO assignEmployeeToProject(Long employeeId, Employee employee, Project project);
+    int deleteEmployees(Collection<Long> ids);
+
+    int detachEmployeesFromDepartment(Long departmentId);
+
+    int deleteEmployeesOfDepartment(Long departmentId);
+
+    Employee assignEmployeeToDepartment(Long employeeId, Department department);
+
+    Employee assignEmployeeToProject(Long employeeId, Project project);
+
+    Page<EmployeeDTO> getEmployeesOfProject(Long projectId, Pageable pageable);
 }
@@ -1,16 +1,41 @@
 package com.ideas2it.employeeManagement.employee.service;
 
+import com.ideas2it.employeeManagement.changefeed.service.ChangeFeedService;
+import com.ideas2it.employeeManagement.department.service.DepartmentStatsService;
+import com.ideas2it.employeeManagement.employee.employeeDTO.BulkImportResultDTO;
 import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeFilterDTO;
 import com.ideas2it.employeeManagement.employee.respository.EmployeeRepository;
+import com.ideas2it.employeeManagement.employee.respository.EmployeeSpecifications;
 import com.ideas2it.employeeManagement.mapper.EmployeeMapper;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import com.ideas2it.employeeManagement.model.Department;
 import com.ideas2it.employeeManagement.model.Employee;
 import com.ideas2it.employeeManagement.model.Project;
+import com.ideas2it.employeeManagement.project.respository.EmployeeProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -19,6 +44,17 @@ import java.util.Optional;
  * It contains methods for creating, retrieving, updating, and deleting Employee entities.
  * The service ensures that the necessary business rules are applied before data
  * is persisted or retrieved from the database.
+ * Every change that adds, removes or alters an employee of a department also
+ * updates that department's summary row in the same transaction.
+ * Every other method runs in one transaction of its own, read-only for the read
+ * methods, so the repository calls it makes share a single connection that is
+ * returned to the pool as soon as the method returns. The read methods
+ * returning DTOs select the DTOs directly, for callers that only need to send
+ * the data on. Imports are the exception: each chunk is committed in its own
+ * transaction.
+ * Every change to employees publishes an {@link EmployeesChangedEvent} naming
+ * the employees, or the department, concerned, and appends the employees
+ * changed to the change feed in the same transaction.
  * </p>
  */
 @Service
@@ -27,12 +63,132 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DepartmentStatsService departmentStatsService;
+
+    @Autowired
+    private EmployeeProjectRepository employeeProjectRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    @Value("${employee-management.import.chunk-size:500}")
+    private int importChunkSize;
+
     @Override
+    @Transactional
     public Employee createEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        addToDepartmentStats(savedEmployee, 1);
+        eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployee(savedEmployee.getEmployeeId()));
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.CREATED,
+                savedEmployee.getEmployeeId());
+        return savedEmployee;
     }
 
+    /**
+     * Imports employees in chunks, each chunk saved in its own transaction so the
+     * inserts go to the database as JDBC batches. When a chunk fails, its rows are
+     * retried one by one so only the offending rows are reported as failures and
+     * the rest of the import carries on.
+     */
     @Override
+    public BulkImportResultDTO importEmployees(Iterator<EmployeeDTO> employeeDTOs) {
+        BulkImportResultDTO result = new BulkImportResultDTO();
+        List<ImportRow> chunk = new ArrayList<>(importChunkSize);
+        int rowNumber = 0;
+        boolean lastRowUnreadable = false;
+        while (hasNextRow(employeeDTOs, rowNumber + 1, lastRowUnreadable, result)) {
+            rowNumber++;
+            result.setReceived(rowNumber);
+            EmployeeDTO employeeDTO;
+            try {
+                employeeDTO = employeeDTOs.next();
+                lastRowUnreadable = false;
+            } catch (RuntimeException e) {
+                result.addFailure(rowNumber, e.getMessage());
+                lastRowUnreadable = true;
+                continue;
+            }
+            if (employeeDTO.getEmployeeName() == null || employeeDTO.getEmployeeName().isBlank()) {
+                result.addFailure(rowNumber, "Employee name is required");
+                continue;
+            }
+            chunk.add(new ImportRow(rowNumber, employeeDTO));
+            if (chunk.size() == importChunkSize) {
+                saveChunk(chunk, result);
+            }
+        }
+        saveChunk(chunk, result);
+        return result;
+    }
+
+    /**
+     * A row that fails to bind is skipped, but once the input itself can no longer
+     * be read there is no next row to resume from and the import stops there.
+     */
+    private boolean hasNextRow(Iterator<EmployeeDTO> employeeDTOs, int rowNumber, boolean lastRowUnreadable,
+                               BulkImportResultDTO result) {
+        try {
+            return employeeDTOs.hasNext();
+        } catch (RuntimeException e) {
+            if (!lastRowUnreadable) {
+                result.addFailure(rowNumber, "Unreadable input, import stopped: " + e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void saveChunk(List<ImportRow> chunk, BulkImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Employee> employees = employeeRepository.saveAll(chunk.stream().map(ImportRow::toEntity).toList());
+                employeeRepository.flush();
+                employees.forEach(employee -> addToDepartmentStats(employee, 1));
+                List<Long> employeeIds = employees.stream().map(Employee::getEmployeeId).toList();
+                eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployees(employeeIds));
+                changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.CREATED, employeeIds);
+            });
+            result.setImported(result.getImported() + chunk.size());
+        } catch (RuntimeException chunkFailure) {
+            for (ImportRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        Employee employee = employeeRepository.saveAndFlush(row.toEntity());
+                        addToDepartmentStats(employee, 1);
+                        eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployee(employee.getEmployeeId()));
+                        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.CREATED,
+                                employee.getEmployeeId());
+                    });
+                    result.setImported(result.getImported() + 1);
+                } catch (RuntimeException e) {
+                    result.addFailure(row.number(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private record ImportRow(int number, EmployeeDTO employeeDTO) {
+
+        Employee toEntity() {
+            return EmployeeMapper.convertToEntity(employeeDTO);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Employee getEmployeeById(Long id) {
         Optional<Employee> employeeOptional = employeeRepository
                 .findByEmployeeIdAndIsDeletedFalse(id);
@@ -41,37 +197,205 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findByIsDeletedFalse();
+    @Transactional(readOnly = true)
+    public EmployeeDTO getEmployeeDTOById(Long id) {
+        return employeeRepository.findDTOById(id)
+                .orElseThrow(() -> new RuntimeException("Employee not found for ID: " + id));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Long getEmployeeVersion(Long id) {
+        return employeeRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Employee not found for ID: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getAllEmployeeDTOs() {
+        return employeeRepository.findAllDTOs();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getEmployeeDTOsAfter(Long after, int limit) {
+        return employeeRepository.findDTOPageAfter(after, Limit.of(limit));
+    }
+
+    /**
+     * Hands every non-deleted employee to the given action while the database
+     * cursor is open. Rows are read as DTOs, so nothing accumulates in the
+     * persistence context however large the table is.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeDTO> action) {
+        try (Stream<EmployeeDTO> employeeDTOs = employeeRepository.streamAllDTOs()) {
+            employeeDTOs.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Employee> searchEmployees(EmployeeFilterDTO filter, Pageable pageable) {
+        return employeeRepository.findAll(EmployeeSpecifications.matching(filter), pageable);
+    }
+
+    /**
+     * Updates the employee. When the given employee carries a version, the update
+     * only goes ahead if it is still the stored version; a concurrent update that
+     * commits first is caught by the version check on the UPDATE statement.
+     */
+    @Override
+    @Transactional
     public Employee updateEmployee(Long id, Employee employee) {
         Employee excistingEmployee = employeeRepository.findByEmployeeIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found for ID: " + id));
+        if (employee.getVersion() != null && !employee.getVersion().equals(excistingEmployee.getVersion())) {
+            throw new OptimisticLockingFailureException("Employee " + id + " has been modified since version "
+                    + employee.getVersion());
+        }
+        double salaryDelta = employee.getSalary() - excistingEmployee.getSalary();
+        long experienceDelta = employee.getExperience() - excistingEmployee.getExperience();
         excistingEmployee.setEmployeeName(employee.getEmployeeName());
         excistingEmployee.setPlace(employee.getPlace());
         excistingEmployee.setDateOfBirth(employee.getDateOfBirth());
         excistingEmployee.setSalary(employee.getSalary());
         excistingEmployee.setExperience(employee.getExperience());
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(excistingEmployee);
+        departmentStatsService.applyDelta(departmentIdOf(savedEmployee), 0, salaryDelta, experienceDelta);
+        eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployee(id));
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.UPDATED, id);
+        return savedEmployee;
     }
 
     @Override
+    @Transactional
     public void deleteEmployee(Long id) {
         Employee employee = getEmployeeById(id);
         employee.setDeleted(true);
+        employee.setDeletedAt(Instant.now());
         employeeRepository.save(employee);
+        addToDepartmentStats(employee, -1);
+        eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployee(id));
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.DELETED, id);
     }
 
+    /**
+     * Soft-deletes the given employees with one UPDATE per thousand IDs instead
+     * of loading each of them, and returns how many were deleted. IDs of missing
+     * or already deleted employees are ignored.
+     */
     @Override
-    public EmployeeDTO assignEmployeeToProject(Long employeeId, Employee employee, Project project) {
-        Optional<Employee> retrievedEmployee = employeeRepository.findByEmployeeIdAndIsDeletedFalse(employeeId);
-        List<Project> projects = employee.getProjects();
-        projects.add(project);
-        employee.setProjects(projects);
-        employeeRepository.save(employee);
-        return EmployeeMapper.convertToDTO(employee);
+    @Transactional
+    public int deleteEmployees(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Set<Long> changedDepartments = new HashSet<>();
+        List<Long> deletedIds = new ArrayList<>();
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += MAX_IDS_PER_STATEMENT) {
+            List<Long> batch = distinctIds.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, distinctIds.size()));
+            changedDepartments.addAll(employeeRepository.findDepartmentIdsByEmployeeIds(batch));
+            deletedIds.addAll(employeeRepository.findLiveIds(batch));
+            deleted += employeeRepository.softDeleteByIds(batch);
+        }
+        changedDepartments.removeIf(Objects::isNull);
+        departmentStatsService.recalculate(changedDepartments);
+        eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployees(distinctIds));
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.DELETED, deletedIds);
+        return deleted;
+    }
+
+    /**
+     * The IDs of the employees concerned are read before the bulk update, so each
+     * of them can be appended to the change feed; the update itself still
+     * touches them all in one statement.
+     */
+    @Override
+    @Transactional
+    public int detachEmployeesFromDepartment(Long departmentId) {
+        List<Long> employeeIds = employeeRepository.findLiveIdsByDepartmentId(departmentId);
+        int detached = employeeRepository.detachFromDepartment(departmentId);
+        departmentStatsService.recalculate(Set.of(departmentId));
+        eventPublisher.publishEvent(EmployeesChangedEvent.ofDepartment(departmentId));
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.UPDATED, employeeIds);
+        return detached;
+    }
+
+    @Override
+    @Transactional
+    public int deleteEmployeesOfDepartment(Long departmentId) {
+        List<Long> employeeIds = employeeRepository.findLiveIdsByDepartmentId(departmentId);
+        int deleted = employeeRepository.softDeleteByDepartmentId(departmentId);
+        departmentStatsService.recalculate(Set.of(departmentId));
+        eventPublisher.publishEvent(EmployeesChangedEvent.ofDepartment(departmentId));
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.DELETED, employeeIds);
+        return deleted;
+    }
+
+    /**
+     * Moves the employee to the given department, taking them out of the totals
+     * of their previous department and adding them to the new one.
+     */
+    @Override
+    @Transactional
+    public Employee assignEmployeeToDepartment(Long employeeId, Department department) {
+        Employee employee = getEmployeeById(employeeId);
+        Long previousDepartmentId = departmentIdOf(employee);
+        if (department.getDepartmentId().equals(previousDepartmentId)) {
+            return employee;
+        }
+        employee.setDepartment(department);
+        Employee savedEmployee = employeeRepository.save(employee);
+        applyToDepartmentStats(previousDepartmentId, savedEmployee, -1);
+        addToDepartmentStats(savedEmployee, 1);
+        eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployee(employeeId));
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.UPDATED, employeeId);
+        return savedEmployee;
+    }
+
+    /**
+     * Adds the employee to (sign 1) or removes them from (sign -1) the totals of
+     * their department, if they have one. Called once the change to the employee
+     * has been made, so a department whose totals have to be recomputed from the
+     * employees table already sees it.
+     */
+    private void addToDepartmentStats(Employee employee, int sign) {
+        applyToDepartmentStats(departmentIdOf(employee), employee, sign);
+    }
+
+    private void applyToDepartmentStats(Long departmentId, Employee employee, int sign) {
+        departmentStatsService.applyDelta(departmentId, sign,
+                sign * employee.getSalary(), (long) sign * employee.getExperience());
+    }
+
+    private static Long departmentIdOf(Employee employee) {
+        return employee.getDepartment() == null ? null : employee.getDepartment().getDepartmentId();
+    }
+
+    /**
+     * Adds the employee to the project with a single insert into the join table,
+     * without loading the employee's other projects. A new member changes the
+     * project's roster, so it is appended to the change feed as an update of the
+     * project.
+     */
+    @Override
+    @Transactional
+    public Employee assignEmployeeToProject(Long employeeId, Project project) {
+        Employee employee = getEmployeeById(employeeId);
+        int added = employeeProjectRepository.insertIfAbsent(
+                List.of(new EmployeeProjectRepository.Link(employeeId, project.getProjectId())));
+        if (added > 0) {
+            changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.UPDATED,
+                    project.getProjectId());
+        }
+        return employee;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeDTO> getEmployeesOfProject(Long projectId, Pageable pageable) {
+        return employeeRepository.findDTOsByProjectId(projectId, pageable);
     }
 }
 
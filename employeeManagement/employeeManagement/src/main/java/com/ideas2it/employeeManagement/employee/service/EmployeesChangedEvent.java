@@ -0,0 +1,28 @@
+package com.ideas2it.employeeManagement.employee.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * Published whenever employees are created, changed or deleted, naming the
+ * employees concerned. Bulk changes made to every employee of a department name
+ * the department instead, since the affected employees are never loaded.
+ * Listeners re-read the current state of these employees rather than relying on
+ * anything carried by the event.
+ * </p>
+ */
+public record EmployeesChangedEvent(Collection<Long> employeeIds, Collection<Long> departmentIds) {
+
+    public static EmployeesChangedEvent ofEmployee(Long employeeId) {
+        return new EmployeesChangedEvent(List.of(employeeId), List.of());
+    }
+
+    public static EmployeesChangedEvent ofEmployees(Collection<Long> employeeIds) {
+        return new EmployeesChangedEvent(employeeIds, List.of());
+    }
+
+    public static EmployeesChangedEvent ofDepartment(Long departmentId) {
+        return new EmployeesChangedEvent(List.of(), List.of(departmentId));
+    }
+}
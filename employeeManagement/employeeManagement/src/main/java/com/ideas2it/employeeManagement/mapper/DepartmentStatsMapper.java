@@ -0,0 +1,19 @@
+package com.ideas2it.employeeManagement.mapper;
+
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentStatsDTO;
+import com.ideas2it.employeeManagement.model.DepartmentStats;
+
+public class DepartmentStatsMapper {
+
+    public static DepartmentStatsDTO convertToDTO(DepartmentStats departmentStats) {
+        long headcount = departmentStats.getHeadcount();
+        return DepartmentStatsDTO.builder()
+                .departmentId(departmentStats.getDepartmentId())
+                .departmentName(departmentStats.getDepartment().getDepartmentName())
+                .headcount(headcount)
+                .totalSalary(departmentStats.getTotalSalary())
+                .averageSalary(headcount == 0 ? 0 : departmentStats.getTotalSalary() / headcount)
+                .averageExperience(headcount == 0 ? 0 : (double) departmentStats.getTotalExperience() / headcount)
+                .build();
+    }
+}
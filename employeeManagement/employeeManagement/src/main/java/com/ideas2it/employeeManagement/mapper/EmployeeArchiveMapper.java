@@ -0,0 +1,30 @@
+package com.ideas2it.employeeManagement.mapper;
+
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivedEmployeeDTO;
+import com.ideas2it.employeeManagement.model.EmployeeArchive;
+
+import java.util.List;
+
+/**
+ * Utility class for converting archived employees to ArchivedEmployeeDTOs.
+ *
+ * <p>Stateless, with static methods only, like the other mappers.</p>
+ */
+public class EmployeeArchiveMapper {
+
+    public static ArchivedEmployeeDTO convertToDTO(EmployeeArchive employeeArchive, List<Long> projectIds) {
+        return ArchivedEmployeeDTO.builder()
+                .employeeId(employeeArchive.getEmployeeId())
+                .employeeName(employeeArchive.getEmployeeName())
+                .place(employeeArchive.getPlace())
+                .dateOfBirth(employeeArchive.getDateOfBirth())
+                .experience(employeeArchive.getExperience())
+                .salary(employeeArchive.getSalary())
+                .departmentId(employeeArchive.getDepartmentId())
+                .departmentName(employeeArchive.getDepartmentName())
+                .projectIds(projectIds)
+                .deletedAt(employeeArchive.getDeletedAt())
+                .archivedAt(employeeArchive.getArchivedAt())
+                .build();
+    }
+}
@@ -23,7 +23,8 @@ public class EmployeeMapper {
                 .dateOfBirth(employee.getDateOfBirth())
                 .experience(employee.getExperience())
                 .salary(employee.getSalary())
-                .departmentName(employee.getDepartment().getDepartmentName())
+                .departmentName(employee.getDepartment() == null
+                        ? null : employee.getDepartment().getDepartmentName())
                 .build();
     }
 
@@ -0,0 +1,173 @@
+package com.ideas2it.employeeManagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Records a latency timer and an error counter for every call into the controllers,
+ * the service implementations and the repositories, tagged with the layer, class
+ * and method. Calls that return a collection or a page also record the number of
+ * rows returned, which points at the endpoints and queries that move the most data.
+ * </p>
+ * <p>
+ * The meters of each method are looked up once and kept, so a call only reads
+ * the clock twice and records. Timers publish a few fixed latency buckets, from
+ * which percentiles can be estimated across instances, rather than a full
+ * percentile histogram and client-side percentiles, keeping the series per
+ * method small. Failures are counted per exception type by the error counter.
+ * </p>
+ * <p>
+ * Meters are published through the actuator Prometheus endpoint as
+ * {@code employee_management_method_seconds}, {@code employee_management_method_errors_total}
+ * and {@code employee_management_method_rows}.
+ * </p>
+ */
+@Aspect
+@Component
+public class MethodMetricsAspect {
+
+    private static final String TIMER = "employee_management.method";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private static final Duration[] LATENCY_BUCKETS = {Duration.ofMillis(5), Duration.ofMillis(25),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofSeconds(1), Duration.ofSeconds(5)};
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<MethodKey, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    @Around("within(com.ideas2it.employeeManagement..controller..*)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(Layer.CONTROLLER, joinPoint);
+    }
+
+    @Around("within(com.ideas2it.employeeManagement..service..*ServiceImpl)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(Layer.SERVICE, joinPoint);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(Layer.REPOSITORY, joinPoint);
+    }
+
+    private Object record(Layer layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodMeters methodMeters = meters.computeIfAbsent(new MethodKey(joinPoint.getTarget().getClass(), method),
+                key -> register(layer, key));
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            recordRows(result, methodMeters);
+            return result;
+        } catch (Throwable e) {
+            meterRegistry.counter(TIMER + ".errors", methodMeters.tags.and("exception", e.getClass().getSimpleName()))
+                    .increment();
+            throw e;
+        } finally {
+            methodMeters.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private MethodMeters register(Layer layer, MethodKey key) {
+        Class<?> type = layer == Layer.REPOSITORY ? repositoryInterfaceOf(key.targetClass()) : key.targetClass();
+        Tags tags = Tags.of("layer", layer.tag,
+                "class", type.getSimpleName(),
+                "method", key.method().getName());
+        Timer timer = Timer.builder(TIMER)
+                .tags(tags)
+                .serviceLevelObjectives(LATENCY_BUCKETS)
+                .register(meterRegistry);
+        return new MethodMeters(tags, timer);
+    }
+
+    private void recordRows(Object result, MethodMeters methodMeters) {
+        if (result instanceof ResponseEntity<?> responseEntity) {
+            result = responseEntity.getBody();
+        }
+        int rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            rows = slice.getNumberOfElements();
+        } else {
+            return;
+        }
+        DistributionSummary summary = methodMeters.rows;
+        if (summary == null) {
+            summary = DistributionSummary.builder(TIMER + ".rows")
+                    .tags(methodMeters.tags)
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry);
+            methodMeters.rows = summary;
+        }
+        summary.record(rows);
+    }
+
+    /**
+     * Repository beans are JDK proxies, so the application's own repository
+     * interface is used as the class tag instead of the generated proxy class.
+     */
+    private static Class<?> repositoryInterfaceOf(Class<?> type) {
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (candidate.getName().startsWith("com.ideas2it.employeeManagement")) {
+                return candidate;
+            }
+        }
+        return type;
+    }
+
+    private enum Layer {
+        CONTROLLER("controller"),
+        SERVICE("service"),
+        REPOSITORY("repository");
+
+        private final String tag;
+
+        Layer(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * Keyed by the {@link Method}, as the join point's signature is created anew
+     * for every call. Inherited repository methods are the same method for every
+     * repository, so the target class is part of the key.
+     */
+    private record MethodKey(Class<?> targetClass, Method method) {
+    }
+
+    private static class MethodMeters {
+
+        private final Tags tags;
+
+        private final Timer timer;
+
+        private volatile DistributionSummary rows;
+
+        MethodMeters(Tags tags, Timer timer) {
+            this.tags = tags;
+            this.timer = timer;
+        }
+    }
+}
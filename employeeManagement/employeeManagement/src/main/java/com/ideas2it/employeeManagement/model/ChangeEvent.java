@@ -0,0 +1,56 @@
+package com.ideas2it.employeeManagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ * One row of the "change_events" outbox: an employee, department or project that
+ * was created, updated or deleted, written in the same transaction as the change
+ * itself. Sequences are handed out from the single "change_sequence" row while it
+ * is locked by the writing transaction, so they are gap-free and increase in
+ * commit order, and a reader that has seen sequence N never misses a later
+ * commit with a lower one.
+ * </p>
+ */
+@Entity
+@Table(name = "change_events", indexes = @Index(name = "idx_change_events_occurred_at", columnList = "occurred_at"))
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeEvent {
+
+    @Id
+    @Column(name = "sequence")
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 16)
+    private Operation operation;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public enum EntityType {
+        EMPLOYEE,
+        DEPARTMENT,
+        PROJECT
+    }
+
+    public enum Operation {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,27 @@
+package com.ideas2it.employeeManagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * <p>
+ * The single row of the "change_sequence" table, holding the last sequence
+ * handed out to a {@link ChangeEvent}.
+ * </p>
+ */
+@Entity
+@Table(name = "change_sequence")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeSequence {
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+}
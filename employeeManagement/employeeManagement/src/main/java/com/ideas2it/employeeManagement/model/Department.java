@@ -2,11 +2,13 @@ package com.ideas2it.employeeManagement.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.Instant;
 import java.util.List;
 
 @Entity
-@Table(name = "departments")
+@Table(name = "departments", indexes = @Index(name = "idx_departments_name", columnList = "department_name"))
 @Getter
 @Setter
 @Builder
@@ -25,7 +27,15 @@ public class Department {
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
 
-    @OneToMany(mappedBy = "department", cascade = CascadeType.ALL)
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @OneToMany(mappedBy = "department")
     private List<Employee> employees;
 
 }
@@ -0,0 +1,40 @@
+package com.ideas2it.employeeManagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * <p>
+ * Running headcount, salary and experience totals of the live employees in one
+ * department, mapped to the "department_stats" table. The totals are adjusted in
+ * place whenever an employee joins, leaves or changes within the department, so
+ * department reports read one row per department instead of every employee.
+ * </p>
+ */
+@Entity
+@Table(name = "department_stats")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartmentStats {
+
+    @Id
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id")
+    private Department department;
+
+    @Column(name = "headcount", nullable = false)
+    private long headcount;
+
+    @Column(name = "total_salary", nullable = false)
+    private double totalSalary;
+
+    @Column(name = "total_experience", nullable = false)
+    private long totalExperience;
+}
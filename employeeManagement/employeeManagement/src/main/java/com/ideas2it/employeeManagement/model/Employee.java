@@ -6,9 +6,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * <p>
@@ -17,6 +20,10 @@ import java.util.List;
  * experience, salary and other relevant details.
  * It is annotated with JPA annotations to indicate that it is an entity and to define
  * the mapping between the fields and the database columns.
+ * The search indexes are created by the Flyway migrations; on PostgreSQL they are
+ * partial indexes over the live employees, which every search restricts to.
+ * Project membership is a set, so adding or removing one project touches only
+ * that row of the join table instead of rewriting all of the employee's rows.
  * </p>
  */
 @Builder
@@ -29,7 +36,8 @@ import java.util.List;
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_id_generator")
+    @SequenceGenerator(name = "employee_id_generator", sequenceName = "employees_seq", allocationSize = 50)
     @Column(name = "employee_id")
     private Long employeeId;
 
@@ -51,7 +59,15 @@ public class Employee {
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
 
-    @ManyToOne
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
 
@@ -61,6 +77,7 @@ public class Employee {
             joinColumns = @JoinColumn(name = "employee_id"),
             inverseJoinColumns = @JoinColumn(name = "project_id")
     )
-    private List<Project> projects;
+    @Builder.Default
+    private Set<Project> projects = new HashSet<>();
 
 }
@@ -0,0 +1,65 @@
+package com.ideas2it.employeeManagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * <p>
+ * An employee moved out of the "employees" table by the archival job, some time
+ * after it was soft-deleted. The department is kept by ID and by the name it had
+ * when the employee was archived, since the department may be archived as well.
+ * </p>
+ */
+@Entity
+@Table(name = "employees_archive")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeArchive {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "employee_name")
+    private String employeeName;
+
+    @Column(name = "place")
+    private String place;
+
+    @Column(name = "date_of_birth")
+    private LocalDate dateOfBirth;
+
+    @Column(name = "experience")
+    private Integer experience;
+
+    @Column(name = "salary")
+    private Double salary;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name")
+    private String departmentName;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -2,8 +2,10 @@ package com.ideas2it.employeeManagement.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Set;
 
 @Entity
 @Table(name = "projects")
@@ -25,8 +27,16 @@ public class Project {
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
 
-    @ManyToMany(mappedBy = "projects", cascade = CascadeType.ALL)
-    private List<Employee> employees;
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @ManyToMany(mappedBy = "projects")
+    private Set<Employee> employees;
 
 }
 
@@ -1,48 +1,150 @@
 package com.ideas2it.employeeManagement.project.controller;
 
+import com.ideas2it.employeeManagement.common.ETags;
+import com.ideas2it.employeeManagement.common.ExportFormat;
+import com.ideas2it.employeeManagement.common.ExportWriter;
+import com.ideas2it.employeeManagement.common.ExportWriterFactory;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.employee.service.EmployeeService;
 import com.ideas2it.employeeManagement.mapper.ProjectMapper;
 import com.ideas2it.employeeManagement.model.Project;
 import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectMembershipResultDTO;
 import com.ideas2it.employeeManagement.project.service.ProjectService;
+import com.ideas2it.employeeManagement.writebehind.service.WriteBehindQueue;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/projects")
 public class ProjectController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private WriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    private ExportWriterFactory exportWriterFactory;
+
     @PostMapping
     public ProjectDTO createProject(@RequestBody ProjectDTO projectDTO) {
         return ProjectMapper.convertToDTO(projectService.createProject(ProjectMapper.convertToEntity(projectDTO)));
     }
 
     @GetMapping("/{id}")
-    public ProjectDTO getProjectById(@PathVariable Long id) {
-        return ProjectMapper.convertToDTO(projectService.getProjectById(id));
+    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id, WebRequest request) {
+        Project project = projectService.getProjectById(id);
+        String eTag = ETags.of(project.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(ProjectMapper.convertToDTO(project));
     }
 
+    /**
+     * Returns every project with the version of the whole list as the ETag, so a
+     * client polling with If-None-Match gets 304 Not Modified from one aggregate
+     * query until a project is created, updated or deleted.
+     */
     @GetMapping
-    public List<ProjectDTO> getAllProjects() {
-        List<ProjectDTO> projectDTOs = new ArrayList<>();
-        List<Project> projects = projectService.getAllProjects();
-        for (Project project : projects) {
-            projectDTOs.add(ProjectMapper.convertToDTO(project));
+    public ResponseEntity<List<ProjectDTO>> getAllProjects(WebRequest request) {
+        String eTag = ETags.of(projectService.getProjectsVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
-        return projectDTOs;    }
+        return ResponseEntity.ok().eTag(eTag).body(projectService.getAllProjectDTOs());
+    }
+
+    @GetMapping(params = "limit")
+    public List<ProjectDTO> getProjectsAfter(@RequestParam(defaultValue = "0") Long after,
+                                             @RequestParam int limit) {
+        return projectService.getProjectDTOsAfter(after, Math.clamp(limit, 1, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Writes every project straight from the database cursor as JSON, CBOR, Smile
+     * or CSV, whichever the Accept header asks for first.
+     */
+    @GetMapping("/stream")
+    public void streamAllProjects(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                  HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+        ExportFormat format = ExportFormat.fromAccept(accept);
+        try (ExportWriter writer = exportWriterFactory.open(format, ProjectDTO.class, response)) {
+            projectService.streamAllProjects(writer::write);
+        }
+    }
+
+    /**
+     * Returns one page of the project's employees, e.g.
+     * {@code /api/projects/3/employees?page=0&size=50}.
+     */
+    @GetMapping("/{id}/employees")
+    public PagedModel<EmployeeDTO> getProjectEmployees(@PathVariable Long id,
+                                                       @PageableDefault(size = 20, sort = "employeeId") Pageable pageable) {
+        return new PagedModel<>(employeeService.getEmployeesOfProject(id, pageable));
+    }
+
+    /**
+     * Adds the employees whose IDs are given in the body to the project. Employees
+     * already on the project are left as they are.
+     */
+    @PutMapping("/{id}/employees")
+    public ResponseEntity<ProjectMembershipResultDTO> addProjectEmployees(@PathVariable Long id,
+                                                                          @RequestBody List<Long> employeeIds) {
+        try {
+            projectService.getProjectById(id);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(ProjectMembershipResultDTO.builder()
+                .projectId(id)
+                .requested((int) employeeIds.stream().distinct().count())
+                .added(projectService.addEmployees(id, employeeIds))
+                .build());
+    }
 
     @PutMapping("/{id}")
-    public ProjectDTO updateProject(@PathVariable Long id, @RequestBody ProjectDTO projectDTO) {
-        return ProjectMapper.convertToDTO(projectService.updateProject(id, ProjectMapper.convertToEntity(projectDTO)));
+    public ResponseEntity<ProjectDTO> updateProject(@PathVariable Long id, @RequestBody ProjectDTO projectDTO,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            Project project = ProjectMapper.convertToEntity(projectDTO);
+            project.setVersion(ETags.parseVersion(ifMatch));
+            Project updatedProject = projectService.updateProject(id, project);
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(updatedProject.getVersion()))
+                    .body(ProjectMapper.convertToDTO(updatedProject));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
     }
 
     @DeleteMapping("/{id}")
-    public void deleteProject(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.deleteProject(id);
+            return ResponseEntity.accepted().build();
+        }
         projectService.deleteProject(id);
+        return ResponseEntity.ok().build();
     }
 }
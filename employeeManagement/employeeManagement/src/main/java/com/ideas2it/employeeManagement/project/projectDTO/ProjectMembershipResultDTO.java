@@ -0,0 +1,14 @@
+package com.ideas2it.employeeManagement.project.projectDTO;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectMembershipResultDTO {
+    private Long projectId;
+    private int requested;
+    private int added;
+}
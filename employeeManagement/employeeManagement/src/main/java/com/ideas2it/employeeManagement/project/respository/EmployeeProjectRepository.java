@@ -0,0 +1,61 @@
+package com.ideas2it.employeeManagement.project.respository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * Writes rows of the "employee_project" join table directly, without loading the
+ * employee and its project list. A row is only inserted when both the employee and
+ * the project exist and are not deleted and the pair is not linked yet, so
+ * repeating an assignment or naming a missing employee changes nothing instead of
+ * failing the statement.
+ * </p>
+ * <p>
+ * Pairs already linked, including those linked concurrently by another
+ * transaction, are skipped by {@code on conflict do nothing} on the table's
+ * primary key. H2 accepts the same statement in its PostgreSQL mode.
+ * </p>
+ */
+@Repository
+public class EmployeeProjectRepository {
+
+    private static final String INSERT_IF_ABSENT = "insert into employee_project (employee_id, project_id) "
+            + "select e.employee_id, p.project_id from unnest(?, ?) as l(employee_id, project_id) "
+            + "join employees e on e.employee_id = l.employee_id and e.is_deleted = false "
+            + "join projects p on p.project_id = l.project_id and p.is_deleted = false "
+            + "on conflict do nothing";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all the given links in one statement, passing them as arrays, and
+     * returns how many rows were added.
+     */
+    public int insertIfAbsent(Collection<Link> links) {
+        Set<Link> distinctLinks = new LinkedHashSet<>(links);
+        if (distinctLinks.isEmpty()) {
+            return 0;
+        }
+        Long[] employeeIds = distinctLinks.stream().map(Link::employeeId).toArray(Long[]::new);
+        Long[] projectIds = distinctLinks.stream().map(Link::projectId).toArray(Long[]::new);
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT)) {
+                statement.setArray(1, connection.createArrayOf("bigint", employeeIds));
+                statement.setArray(2, connection.createArrayOf("bigint", projectIds));
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    public record Link(long employeeId, long projectId) {
+    }
+}
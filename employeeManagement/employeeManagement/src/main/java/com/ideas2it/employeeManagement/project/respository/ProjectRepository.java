@@ -1,12 +1,44 @@
 package com.ideas2it.employeeManagement.project.respository;
 
+import com.ideas2it.employeeManagement.common.CollectionVersion;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
 import com.ideas2it.employeeManagement.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByIsDeletedFalse();
+
+    String SELECT_DTO = "select new com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO("
+            + "p.projectId, p.projectName) from Project p ";
+
+    @Query(SELECT_DTO + "where p.isDeleted = false")
+    List<ProjectDTO> findAllDTOs();
+
+    @Query(SELECT_DTO + "where p.isDeleted = false and p.projectId > :after order by p.projectId")
+    List<ProjectDTO> findDTOPageAfter(@Param("after") Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "where p.isDeleted = false order by p.projectId")
+    Stream<ProjectDTO> streamAllDTOs();
+
+    @Query("select new com.ideas2it.employeeManagement.common.CollectionVersion(count(p), coalesce(max(p.projectId), 0L), "
+            + "coalesce(sum(p.version), 0L)) from Project p where p.isDeleted = false")
+    CollectionVersion findCollectionVersion();
+
+    @Modifying
+    @Query("update Project p set p.isDeleted = true, p.deletedAt = instant, p.version = p.version + 1 "
+            + "where p.projectId in :ids and p.isDeleted = false")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids);
 }
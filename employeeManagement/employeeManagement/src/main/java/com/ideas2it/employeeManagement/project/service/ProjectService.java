@@ -1,17 +1,29 @@
 package com.ideas2it.employeeManagement.project.service;
 
+import com.ideas2it.employeeManagement.common.CollectionVersion;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
 import com.ideas2it.employeeManagement.model.Project;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProjectService {
     Project createProject(Project project);
 
     Project getProjectById(Long id);
 
-    List<Project> getAllProjects();
+    List<ProjectDTO> getAllProjectDTOs();
+
+    CollectionVersion getProjectsVersion();
+
+    List<ProjectDTO> getProjectDTOsAfter(Long after, int limit);
+
+    void streamAllProjects(Consumer<ProjectDTO> action);
 
     Project updateProject(Long id, Project projectDetails);
 
     void deleteProject(Long id);
+
+    int addEmployees(Long projectId, Collection<Long> employeeIds);
 }
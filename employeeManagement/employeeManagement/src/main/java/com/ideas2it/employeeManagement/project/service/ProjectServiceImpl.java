@@ -1,45 +1,146 @@
 package com.ideas2it.employeeManagement.project.service;
 
+import com.ideas2it.employeeManagement.changefeed.service.ChangeFeedService;
+import com.ideas2it.employeeManagement.common.CollectionVersion;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
 import com.ideas2it.employeeManagement.model.Project;
+import com.ideas2it.employeeManagement.project.respository.EmployeeProjectRepository;
 import com.ideas2it.employeeManagement.project.respository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+/**
+ * <p>
+ * Service class for Project operations. {@link #getProjectById(Long)} is cached in
+ * the "projects" cache for the project assignment path; updates and deletes evict
+ * the cached entry. Every change, including new members on a project's roster,
+ * is appended to the change feed in the transaction making it. Reads other than
+ * the cached lookup run in read-only transactions; a cache miss is read from
+ * the primary.
+ * </p>
+ */
 @Service
+@CacheConfig(cacheNames = "projects")
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int MAX_LINKS_PER_STATEMENT = 1000;
+
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private EmployeeProjectRepository employeeProjectRepository;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
     @Override
+    @Transactional
     public Project createProject(Project project) {
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.CREATED,
+                savedProject.getProjectId());
+        return savedProject;
     }
 
+    /**
+     * Fills the cache from the primary, like the department lookup, so an entry
+     * evicted by an update is not refilled from a replica that is behind.
+     */
     @Override
+    @Cacheable(key = "#id")
+    @Transactional
     public Project getProjectById(Long id) {
         return projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
     }
 
     @Override
-    public List<Project> getAllProjects() {
-        return projectRepository.findByIsDeletedFalse();
+    @Transactional(readOnly = true)
+    public List<ProjectDTO> getAllProjectDTOs() {
+        return projectRepository.findAllDTOs();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CollectionVersion getProjectsVersion() {
+        return projectRepository.findCollectionVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDTO> getProjectDTOsAfter(Long after, int limit) {
+        return projectRepository.findDTOPageAfter(after, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllProjects(Consumer<ProjectDTO> action) {
+        try (Stream<ProjectDTO> projectDTOs = projectRepository.streamAllDTOs()) {
+            projectDTOs.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(key = "#id")
     public Project updateProject(Long id, Project projectDetails) {
         Project project = getProjectById(id);
+        if (projectDetails.getVersion() != null && !projectDetails.getVersion().equals(project.getVersion())) {
+            throw new OptimisticLockingFailureException("Project " + id + " has been modified since version "
+                    + projectDetails.getVersion());
+        }
         project.setProjectName(projectDetails.getProjectName());
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.UPDATED, id);
+        return savedProject;
     }
 
     @Override
+    @Transactional
+    @CacheEvict(key = "#id")
     public void deleteProject(Long id) {
         Project project = getProjectById(id);
         project.setDeleted(true);
+        project.setDeletedAt(Instant.now());
         projectRepository.save(project);
+        changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.DELETED, id);
+    }
+
+    /**
+     * Adds the employees to the project with one insert-if-absent statement per
+     * chunk of employees. Employees already on the project, not existing or
+     * deleted are skipped.
+     * Returns the number of employees added.
+     */
+    @Override
+    @Transactional
+    public int addEmployees(Long projectId, Collection<Long> employeeIds) {
+        List<EmployeeProjectRepository.Link> links = employeeIds.stream()
+                .distinct()
+                .map(employeeId -> new EmployeeProjectRepository.Link(employeeId, projectId))
+                .toList();
+        int added = 0;
+        for (int from = 0; from < links.size(); from += MAX_LINKS_PER_STATEMENT) {
+            added += employeeProjectRepository.insertIfAbsent(
+                    links.subList(from, Math.min(from + MAX_LINKS_PER_STATEMENT, links.size())));
+        }
+        if (added > 0) {
+            changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.UPDATED, projectId);
+        }
+        return added;
     }
 }
@@ -0,0 +1,113 @@
+package com.ideas2it.employeeManagement.reactive.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ideas2it.employeeManagement.reactive.controller.ReactiveReadHandler;
+import com.ideas2it.employeeManagement.reactive.respository.ReactiveReadRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <p>
+ * Wires the non-blocking read API when {@code employee-management.reactive.enabled}
+ * is set: an R2DBC connection pool, the repository and handler functions
+ * reading through it, and the Reactor Netty server serving them. JSON is
+ * written with the application's ObjectMapper, so both APIs render the DTOs
+ * alike. The JPA repositories, transactions and write endpoints are untouched;
+ * Spring Boot's own R2DBC auto-configuration is excluded on the application
+ * class so that it does not add a second transaction manager.
+ * </p>
+ * <p>
+ * Requests on this port do not pass the servlet filters, so they are not
+ * subject to admission control or replica routing.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee-management.reactive.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReactiveProperties.class)
+public class ReactiveApiConfig {
+
+    private static final String METER = "employee_management.reactive.pool";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionPool(ReactiveProperties reactiveProperties,
+                                                 DataSourceProperties dataSourceProperties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        String url = StringUtils.hasText(reactiveProperties.getUrl())
+                ? reactiveProperties.getUrl()
+                : dataSourceProperties.determineUrl().replaceFirst("^jdbc:", "r2dbc:");
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        String username = reactiveProperties.getUsername() != null
+                ? reactiveProperties.getUsername()
+                : dataSourceProperties.determineUsername();
+        String password = reactiveProperties.getPassword() != null
+                ? reactiveProperties.getPassword()
+                : dataSourceProperties.determinePassword();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionPool connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("reactive")
+                .initialSize(reactiveProperties.getInitialPoolSize())
+                .maxSize(reactiveProperties.getMaxPoolSize())
+                .maxAcquireTime(reactiveProperties.getMaxAcquireTime())
+                .maxIdleTime(reactiveProperties.getMaxIdleTime())
+                .build());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            registerGauge(registry, connectionPool, "acquired", PoolMetrics::acquiredSize);
+            registerGauge(registry, connectionPool, "idle", PoolMetrics::idleSize);
+            registerGauge(registry, connectionPool, "pending", PoolMetrics::pendingAcquireSize);
+        }
+        return connectionPool;
+    }
+
+    @Bean
+    public ReactiveReadRepository reactiveReadRepository(ConnectionPool reactiveConnectionPool,
+                                                         ReactiveProperties reactiveProperties) {
+        return new ReactiveReadRepository(DatabaseClient.create(reactiveConnectionPool),
+                reactiveProperties.getFetchSize());
+    }
+
+    @Bean
+    public ReactiveServer reactiveServer(ReactiveReadRepository reactiveReadRepository,
+                                         ReactiveProperties reactiveProperties, ObjectMapper objectMapper) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveServer(RouterFunctions.toHttpHandler(
+                new ReactiveReadHandler(reactiveReadRepository).routes(), strategies), reactiveProperties.getPort());
+    }
+
+    private static void registerGauge(MeterRegistry registry, ConnectionPool connectionPool, String name,
+                                      ToDoubleFunction<PoolMetrics> value) {
+        Gauge.builder(METER + "." + name, connectionPool,
+                        pool -> pool.getMetrics().map(value::applyAsDouble).orElse(0.0))
+                .register(registry);
+    }
+}
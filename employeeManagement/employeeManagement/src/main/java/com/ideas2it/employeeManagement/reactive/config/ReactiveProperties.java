@@ -0,0 +1,64 @@
+package com.ideas2it.employeeManagement.reactive.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ * The non-blocking read API, bound from {@code employee-management.reactive}.
+ * It listens on a port of its own and reads through an R2DBC connection pool.
+ * Without a URL the pool connects to the database of
+ * {@code spring.datasource}, with the same credentials.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-management.reactive")
+public class ReactiveProperties {
+
+    /**
+     * Off by default, so that the application opens no second port unless asked.
+     * Set {@code employee-management.reactive.enabled=true} in
+     * application.properties, or pass {@code --employee-management.reactive.enabled=true}
+     * or {@code EMPLOYEE_MANAGEMENT_REACTIVE_ENABLED=true} at startup, to serve the
+     * reads on {@link #port}.
+     */
+    private boolean enabled;
+
+    private int port = 8081;
+
+    /**
+     * R2DBC URL such as {@code r2dbc:postgresql://replica:5432/EmployeeManagementDB},
+     * for instance to serve the reads from a replica.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int initialPoolSize = 2;
+
+    /**
+     * A list being streamed only holds a connection while one page of it is
+     * read, so this bounds the pages read at once rather than the number of
+     * clients streaming.
+     */
+    private int maxPoolSize = 20;
+
+    /**
+     * How long a request waits for a pooled connection before it fails.
+     */
+    private Duration maxAcquireTime = Duration.ofSeconds(5);
+
+    private Duration maxIdleTime = Duration.ofMinutes(10);
+
+    /**
+     * Rows read per keyset page while streaming a list. Further pages are only
+     * read as the client takes the rows.
+     */
+    private int fetchSize = 250;
+}
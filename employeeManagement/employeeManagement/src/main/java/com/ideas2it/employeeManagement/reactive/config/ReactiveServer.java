@@ -0,0 +1,65 @@
+package com.ideas2it.employeeManagement.reactive.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ * A Reactor Netty server for the non-blocking read API, next to the servlet
+ * container that serves everything else. It is started once the application
+ * context is ready and stopped before the connection pools it reads through
+ * are closed, giving requests in flight a few seconds to complete.
+ * </p>
+ */
+public class ReactiveServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveServer.class);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final HttpHandler httpHandler;
+
+    private final int port;
+
+    private volatile DisposableServer server;
+
+    public ReactiveServer(HttpHandler httpHandler, int port) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        logger.info("Reactive read API started on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer runningServer = server;
+        if (runningServer != null) {
+            runningServer.disposeNow(SHUTDOWN_TIMEOUT);
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        DisposableServer runningServer = server;
+        return runningServer != null ? runningServer.port() : -1;
+    }
+}
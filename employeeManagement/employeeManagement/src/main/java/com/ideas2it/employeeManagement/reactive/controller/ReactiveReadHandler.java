@@ -0,0 +1,125 @@
+package com.ideas2it.employeeManagement.reactive.controller;
+
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
+import com.ideas2it.employeeManagement.reactive.respository.ReactiveReadRepository;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * <p>
+ * Handler functions of the non-blocking read API, which mirrors the read
+ * endpoints of the employee, department and project controllers:
+ * {@code /api/employees/{id}}, {@code /api/employees}, with
+ * {@code ?after=&limit=} for a keyset page, {@code /api/departments/{id}},
+ * {@code /api/departments}, {@code /api/projects/{id}}, {@code /api/projects}
+ * and {@code /api/projects/{id}/employees}.
+ * </p>
+ * <p>
+ * Whole lists are streamed as they are read from the database, as a JSON array
+ * or, when the client accepts {@code application/x-ndjson}, as one JSON
+ * document per line. Rows are only read as fast as the client takes them. The
+ * employees of a deleted or missing project are a 404, like the project itself,
+ * and an ID too large to be one is a 400, as on the servlet endpoints.
+ * </p>
+ */
+public class ReactiveReadHandler {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    public ReactiveReadHandler(ReactiveReadRepository reactiveReadRepository) {
+        this.reactiveReadRepository = reactiveReadRepository;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/employees/{id:\\d+}", this::getEmployee)
+                .GET("/api/employees", this::getEmployees)
+                .GET("/api/departments/{id:\\d+}", this::getDepartment)
+                .GET("/api/departments", request -> list(request, reactiveReadRepository.streamDepartments(),
+                        DepartmentDTO.class))
+                .GET("/api/projects/{id:\\d+}", this::getProject)
+                .GET("/api/projects", request -> list(request, reactiveReadRepository.streamProjects(),
+                        ProjectDTO.class))
+                .GET("/api/projects/{id:\\d+}/employees", this::getEmployeesOfProject)
+                .build();
+    }
+
+    private Mono<ServerResponse> getEmployee(ServerRequest request) {
+        return withId(request, id -> one(reactiveReadRepository.findEmployee(id)));
+    }
+
+    /**
+     * Returns the next page of employees after the {@code after} cursor when a
+     * {@code limit} is given, and streams every employee otherwise.
+     */
+    private Mono<ServerResponse> getEmployees(ServerRequest request) {
+        Optional<String> limit = request.queryParam("limit");
+        if (limit.isEmpty()) {
+            return list(request, reactiveReadRepository.streamEmployees(), EmployeeDTO.class);
+        }
+        long after;
+        int pageSize;
+        try {
+            after = Long.parseLong(request.queryParam("after").orElse("0"));
+            pageSize = Math.clamp(Integer.parseInt(limit.get()), 1, MAX_PAGE_SIZE);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reactiveReadRepository.findEmployeesAfter(after, pageSize), EmployeeDTO.class);
+    }
+
+    private Mono<ServerResponse> getDepartment(ServerRequest request) {
+        return withId(request, id -> one(reactiveReadRepository.findDepartment(id)));
+    }
+
+    private Mono<ServerResponse> getProject(ServerRequest request) {
+        return withId(request, id -> one(reactiveReadRepository.findProject(id)));
+    }
+
+    private Mono<ServerResponse> getEmployeesOfProject(ServerRequest request) {
+        return withId(request, id -> reactiveReadRepository.findProject(id)
+                .flatMap(project -> list(request, reactiveReadRepository.streamEmployeesOfProject(id),
+                        EmployeeDTO.class))
+                .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+
+    private static <T> Mono<ServerResponse> one(Mono<T> element) {
+        return element.flatMap(found -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(found))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    private static <T> Mono<ServerResponse> list(ServerRequest request, Flux<T> elements, Class<T> elementClass) {
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(elements, elementClass);
+    }
+
+    /**
+     * Handles a request by the ID in its path. The route only matches digits, but
+     * the number can still be too large for an ID.
+     */
+    private static Mono<ServerResponse> withId(ServerRequest request, LongFunction<Mono<ServerResponse>> handler) {
+        long id;
+        try {
+            id = Long.parseLong(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return handler.apply(id);
+    }
+}
@@ -0,0 +1,162 @@
+package com.ideas2it.employeeManagement.reactive.respository;
+
+import com.ideas2it.employeeManagement.department.departmentDTO.DepartmentDTO;
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * Non-blocking reads of employees, departments and projects over R2DBC,
+ * returning the same DTOs as the JPA repositories. Whole lists are read as
+ * keyset pages of the fetch size, each its own query. The next page is only
+ * queried once the subscriber has taken most of the previous one, so a slow
+ * client holds back the reading rather than rows piling up in memory, and a
+ * connection is only checked out while a page is being read, not for as long
+ * as the client takes to read the whole list.
+ * </p>
+ */
+public class ReactiveReadRepository {
+
+    private static final String SELECT_EMPLOYEE = "select e.employee_id, e.employee_name, e.place, e.date_of_birth, "
+            + "e.experience, e.salary, d.department_name from employees e "
+            + "left join departments d on d.department_id = e.department_id ";
+
+    private static final String SELECT_DEPARTMENT = "select department_id, department_name from departments ";
+
+    private static final String SELECT_PROJECT = "select project_id, project_name from projects ";
+
+    private final DatabaseClient databaseClient;
+
+    private final int fetchSize;
+
+    public ReactiveReadRepository(DatabaseClient databaseClient, int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    public Mono<EmployeeDTO> findEmployee(long employeeId) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "where e.employee_id = :id and e.is_deleted = false")
+                .bind("id", employeeId)
+                .map(ReactiveReadRepository::toEmployee)
+                .one();
+    }
+
+    public Flux<EmployeeDTO> findEmployeesAfter(long after, int limit) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "where e.is_deleted = false and e.employee_id > :after "
+                        + "order by e.employee_id limit :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveReadRepository::toEmployee)
+                .all();
+    }
+
+    public Flux<EmployeeDTO> streamEmployees() {
+        return inPages(EmployeeDTO::getEmployeeId, this::findEmployeesAfter);
+    }
+
+    public Flux<EmployeeDTO> streamEmployeesOfProject(long projectId) {
+        return inPages(EmployeeDTO::getEmployeeId, (after, limit) -> databaseClient.sql(SELECT_EMPLOYEE
+                        + "join employee_project ep on ep.employee_id = e.employee_id "
+                        + "where ep.project_id = :projectId and e.is_deleted = false and e.employee_id > :after "
+                        + "order by e.employee_id limit :limit")
+                .bind("projectId", projectId)
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveReadRepository::toEmployee)
+                .all());
+    }
+
+    public Mono<DepartmentDTO> findDepartment(long departmentId) {
+        return databaseClient.sql(SELECT_DEPARTMENT + "where department_id = :id and is_deleted = false")
+                .bind("id", departmentId)
+                .map(ReactiveReadRepository::toDepartment)
+                .one();
+    }
+
+    public Flux<DepartmentDTO> streamDepartments() {
+        return inPages(DepartmentDTO::getDepartmentId, (after, limit) -> databaseClient.sql(SELECT_DEPARTMENT
+                        + "where is_deleted = false and department_id > :after order by department_id limit :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveReadRepository::toDepartment)
+                .all());
+    }
+
+    public Mono<ProjectDTO> findProject(long projectId) {
+        return databaseClient.sql(SELECT_PROJECT + "where project_id = :id and is_deleted = false")
+                .bind("id", projectId)
+                .map(ReactiveReadRepository::toProject)
+                .one();
+    }
+
+    public Flux<ProjectDTO> streamProjects() {
+        return inPages(ProjectDTO::getProjectId, (after, limit) -> databaseClient.sql(SELECT_PROJECT
+                        + "where is_deleted = false and project_id > :after order by project_id limit :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveReadRepository::toProject)
+                .all());
+    }
+
+    /**
+     * Reads a whole list page by page, each page starting after the key of the
+     * last row of the previous one. A page is read completely, releasing its
+     * connection, before it is handed on; at most the page being taken and the
+     * one after it are held in memory.
+     */
+    private <T> Flux<T> inPages(ToLongFunction<T> key, BiFunction<Long, Integer, Flux<T>> page) {
+        return Flux.defer(() -> {
+            AtomicLong after = new AtomicLong();
+            AtomicBoolean more = new AtomicBoolean(true);
+            return Mono.defer(() -> page.apply(after.get(), fetchSize).collectList())
+                    .doOnNext(rows -> {
+                        if (rows.size() < fetchSize) {
+                            more.set(false);
+                        } else {
+                            after.set(key.applyAsLong(rows.getLast()));
+                        }
+                    })
+                    .repeat(more::get)
+                    .concatMapIterable(Function.identity(), 1);
+        });
+    }
+
+    private static EmployeeDTO toEmployee(Readable row) {
+        Integer experience = row.get("experience", Integer.class);
+        Double salary = row.get("salary", Double.class);
+        return EmployeeDTO.builder()
+                .employeeId(row.get("employee_id", Long.class))
+                .employeeName(row.get("employee_name", String.class))
+                .place(row.get("place", String.class))
+                .dateOfBirth(row.get("date_of_birth", LocalDate.class))
+                .experience(experience != null ? experience : 0)
+                .salary(salary != null ? salary : 0)
+                .departmentName(row.get("department_name", String.class))
+                .build();
+    }
+
+    private static DepartmentDTO toDepartment(Readable row) {
+        return DepartmentDTO.builder()
+                .departmentId(row.get("department_id", Long.class))
+                .departmentName(row.get("department_name", String.class))
+                .build();
+    }
+
+    private static ProjectDTO toProject(Readable row) {
+        return ProjectDTO.builder()
+                .projectId(row.get("project_id", Long.class))
+                .projectName(row.get("project_name", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ideas2it.employeeManagement.replica.config;
+
+import com.ideas2it.employeeManagement.common.ClientIdResolver;
+import com.ideas2it.employeeManagement.replica.service.ReplicaService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * Binds the client of each request for the replica routing. The client's
+ * read-your-writes window is started by {@link ReadYourWritesTransactionListener}
+ * as soon as a transaction of the request commits, before the response is sent.
+ * Skipped when no replicas are configured.
+ * </p>
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ReplicaService replicaService;
+
+    @Autowired
+    private ClientIdResolver clientIdResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !replicaService.hasReplicas();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        replicaService.bindClient(clientIdResolver.resolve(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            replicaService.unbindClient();
+        }
+    }
+}
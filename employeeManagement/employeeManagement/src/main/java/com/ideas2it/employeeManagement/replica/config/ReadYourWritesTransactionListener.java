@@ -0,0 +1,44 @@
+package com.ideas2it.employeeManagement.replica.config;
+
+import com.ideas2it.employeeManagement.replica.service.ReplicaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <p>
+ * Starts the read-your-writes window of the client bound by
+ * {@link ReadYourWritesFilter} once a read-write transaction of its request
+ * commits. The window is started after the commit, on the request thread, so it
+ * is open before the response is sent and the client cannot read the replicas
+ * before the change it just made. Spring Boot registers this listener with the
+ * transaction manager.
+ * </p>
+ */
+@Component
+public class ReadYourWritesTransactionListener implements TransactionExecutionListener {
+
+    @Autowired
+    private ReplicaService replicaService;
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || transaction.isReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String clientId = replicaService.getBoundClient();
+        if (clientId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replicaService.recordWrite(clientId);
+            }
+        });
+    }
+}
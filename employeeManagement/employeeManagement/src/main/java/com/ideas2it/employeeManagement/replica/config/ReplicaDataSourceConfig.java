@@ -0,0 +1,74 @@
+package com.ideas2it.employeeManagement.replica.config;
+
+import com.ideas2it.employeeManagement.replica.service.ReadWriteRoutingDataSource;
+import com.ideas2it.employeeManagement.replica.service.Replica;
+import com.ideas2it.employeeManagement.replica.service.ReplicaRouter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Builds the application DataSource in place of the auto-configured one. The
+ * primary pool is configured from {@code spring.datasource} and
+ * {@code spring.datasource.hikari} as before. Each replica gets a pool with the
+ * same settings and its own URL and credentials, which does not fail startup
+ * while the replica is down and gives up on a connection after
+ * {@code employee-management.replicas.connection-timeout}. Both are put behind
+ * a {@link ReadWriteRoutingDataSource}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties,
+                                 Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (StringUtils.hasText(dataSourceProperties.getName())) {
+            primary.setPoolName(dataSourceProperties.getName());
+        }
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        List<Replica> replicas = new ArrayList<>();
+        for (ReplicaProperties.Instance instance : replicaProperties.getInstances()) {
+            replicas.add(createReplica(primary, instance, replicaProperties, meterRegistry.getIfAvailable()));
+        }
+        ReplicaRouter replicaRouter = new ReplicaRouter(primary, replicas,
+                replicaProperties.getReadYourWritesWindow(), replicaProperties.getMaxLag());
+        return new ReadWriteRoutingDataSource(primary, replicaRouter);
+    }
+
+    private static Replica createReplica(HikariDataSource primary, ReplicaProperties.Instance instance,
+                                         ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        String name = StringUtils.hasText(instance.getName()) ? instance.getName() : instance.getUrl();
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName((primary.getPoolName() != null ? primary.getPoolName() : "HikariPool") + "-" + name);
+        config.setJdbcUrl(instance.getUrl());
+        config.setUsername(instance.getUsername() != null ? instance.getUsername() : primary.getUsername());
+        config.setPassword(instance.getPassword() != null ? instance.getPassword() : primary.getPassword());
+        config.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+        config.setInitializationFailTimeout(-1);
+        if (meterRegistry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return new Replica(name, new HikariDataSource(config));
+    }
+}
@@ -0,0 +1,53 @@
+package com.ideas2it.employeeManagement.replica.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Read replicas of the primary database, bound from
+ * {@code employee-management.replicas}. Each replica is listed under
+ * {@code instances[n]} with its JDBC URL and credentials; its connection pool is
+ * otherwise configured like the primary's. With no instances every connection
+ * goes to the primary.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee-management.replicas")
+public class ReplicaProperties {
+
+    private List<Instance> instances = new ArrayList<>();
+
+    /**
+     * How long a client's reads go to the primary after it changed something,
+     * so it reads its own writes while the replicas catch up.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * How long a replica may wait for a pooled connection before the read falls
+     * back to the primary.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * A replica replaying changes from further behind than this is taken out of
+     * rotation until it catches up.
+     */
+    private Duration maxLag = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class Instance {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
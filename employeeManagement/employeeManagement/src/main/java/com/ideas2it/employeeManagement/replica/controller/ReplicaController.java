@@ -0,0 +1,21 @@
+package com.ideas2it.employeeManagement.replica.controller;
+
+import com.ideas2it.employeeManagement.replica.replicaDTO.ReplicaRoutingStatsDTO;
+import com.ideas2it.employeeManagement.replica.service.ReplicaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/replicas")
+public class ReplicaController {
+
+    @Autowired
+    private ReplicaService replicaService;
+
+    @GetMapping("/stats")
+    public ReplicaRoutingStatsDTO getStats() {
+        return replicaService.getStats();
+    }
+}
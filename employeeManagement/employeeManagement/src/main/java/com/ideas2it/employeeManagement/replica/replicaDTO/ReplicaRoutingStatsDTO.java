@@ -0,0 +1,28 @@
+package com.ideas2it.employeeManagement.replica.replicaDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * <p>
+ * How read-only transactions were routed: the reads kept on the primary for
+ * clients inside their read-your-writes window, the reads that fell back to the
+ * primary because no replica was available, and the state of each replica.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplicaRoutingStatsDTO {
+    private long readYourWritesReads;
+    private long fallbackReads;
+    private long recentWriters;
+    private List<ReplicaStatusDTO> replicas;
+}
@@ -0,0 +1,31 @@
+package com.ideas2it.employeeManagement.replica.replicaDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ * State of one read replica: whether it is in rotation, how far behind the
+ * primary it was at the last health check, and the connections it has handed
+ * out or failed to.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplicaStatusDTO {
+    private String name;
+    private boolean healthy;
+    private long lagMillis;
+    private long connections;
+    private long failures;
+    private Instant lastCheckedAt;
+    private String lastError;
+}
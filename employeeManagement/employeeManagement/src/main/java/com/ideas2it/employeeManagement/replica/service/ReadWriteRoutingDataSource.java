@@ -0,0 +1,57 @@
+package com.ideas2it.employeeManagement.replica.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * The application DataSource, spreading reads over the replicas when there are
+ * any. Connections
+ * are handed out lazily and fetched from a pool only when the first statement
+ * runs, by which time the transaction has marked them read-only or not. Read-only
+ * connections come from the {@link ReplicaRouter}, all others from the primary
+ * pool, so {@code @Transactional(readOnly = true)} service methods read from a
+ * replica and everything else, including the reads inside a read-write
+ * transaction, stays on the primary.
+ * </p>
+ * <p>
+ * Unwraps to the primary pool and to the router, and closes both on shutdown.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+
+    private final ReplicaRouter replicaRouter;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, ReplicaRouter replicaRouter) {
+        super(primary);
+        this.primary = primary;
+        this.replicaRouter = replicaRouter;
+        if (replicaRouter.hasReplicas()) {
+            setReadOnlyDataSource(replicaRouter);
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface == ReplicaRouter.class) {
+            return iface.cast(replicaRouter);
+        }
+        return super.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface == ReplicaRouter.class || super.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        replicaRouter.close();
+        primary.close();
+    }
+}
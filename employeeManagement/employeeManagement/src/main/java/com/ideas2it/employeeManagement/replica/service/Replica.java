@@ -0,0 +1,132 @@
+package com.ideas2it.employeeManagement.replica.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * One read replica and its connection pool. A replica is in rotation while its
+ * last health check passed and no connection attempt has failed since. Its lag
+ * is measured on PostgreSQL standbys only, as the age of the last transaction
+ * replayed while changes received from the primary are still waiting to be
+ * replayed, and as zero once the replica has caught up.
+ * </p>
+ */
+public class Replica {
+
+    private static final String LAG_QUERY = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+            + " else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String name;
+
+    private final HikariDataSource dataSource;
+
+    private final LongAdder connections = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private volatile boolean healthy = true;
+
+    private volatile long lagMillis;
+
+    private volatile Instant lastCheckedAt;
+
+    private volatile String lastError;
+
+    public Replica(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    Connection getConnection() throws SQLException {
+        try {
+            Connection connection = dataSource.getConnection();
+            connections.increment();
+            return connection;
+        } catch (SQLException e) {
+            markDown(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Validates a connection and measures the lag, putting the replica back in
+     * rotation or taking it out.
+     */
+    void check(Duration maxLag) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Connection is not valid");
+            }
+            lagMillis = measureLagMillis(connection);
+            if (lagMillis > maxLag.toMillis()) {
+                healthy = false;
+                lastError = "Lagging " + lagMillis + " ms behind the primary";
+            } else {
+                healthy = true;
+                lastError = null;
+            }
+        } catch (SQLException e) {
+            markDown(e);
+        } finally {
+            lastCheckedAt = Instant.now();
+        }
+    }
+
+    private void markDown(SQLException e) {
+        failures.increment();
+        healthy = false;
+        lastError = e.getMessage();
+    }
+
+    private static long measureLagMillis(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    void close() {
+        dataSource.close();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public Instant getLastCheckedAt() {
+        return lastCheckedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
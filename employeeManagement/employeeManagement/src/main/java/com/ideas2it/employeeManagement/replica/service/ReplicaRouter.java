@@ -0,0 +1,152 @@
+package com.ideas2it.employeeManagement.replica.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Hands out the connections of read-only transactions. Replicas in rotation
+ * take turns. A replica that cannot hand out a connection is taken out of
+ * rotation and the next one is tried, and when none is left the read goes to
+ * the primary.
+ * </p>
+ * <p>
+ * A client that changed something is read from the primary for the
+ * read-your-writes window afterwards, so it never reads an older state than the
+ * one it wrote while the replicas catch up. The client of the current request is
+ * bound to the thread by {@link #bindClient(String)}; reads without a bound
+ * client, such as those of scheduled jobs, go to the replicas.
+ * </p>
+ */
+public class ReplicaRouter extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas;
+
+    private final Duration maxLag;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    private final ThreadLocal<String> currentClient = new ThreadLocal<>();
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final LongAdder readYourWritesReads = new LongAdder();
+
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRouter(DataSource primary, List<Replica> replicas, Duration readYourWritesWindow, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void bindClient(String clientId) {
+        currentClient.set(clientId);
+    }
+
+    public void unbindClient() {
+        currentClient.remove();
+    }
+
+    public String getBoundClient() {
+        return currentClient.get();
+    }
+
+    /**
+     * Starts the read-your-writes window of a client, once its change has been
+     * committed.
+     */
+    public void recordWrite(String clientId) {
+        recentWriters.put(clientId, Boolean.TRUE);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String clientId = currentClient.get();
+        if (clientId != null && recentWriters.getIfPresent(clientId) != null) {
+            readYourWritesReads.increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        if (size > 0) {
+            int first = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((first + i) % size);
+                if (!replica.isHealthy()) {
+                    continue;
+                }
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    logger.warn("Replica {} taken out of rotation: {}", replica.getName(), e.getMessage());
+                }
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Replica connections use the credentials of their pools");
+    }
+
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.isHealthy();
+            replica.check(maxLag);
+            if (replica.isHealthy() != wasHealthy) {
+                if (replica.isHealthy()) {
+                    logger.info("Replica {} back in rotation", replica.getName());
+                } else {
+                    logger.warn("Replica {} taken out of rotation: {}", replica.getName(), replica.getLastError());
+                }
+            }
+        }
+    }
+
+    public long getReadYourWritesReads() {
+        return readYourWritesReads.sum();
+    }
+
+    public long getFallbackReads() {
+        return fallbackReads.sum();
+    }
+
+    public long getRecentWriters() {
+        return recentWriters.estimatedSize();
+    }
+
+    void close() {
+        replicas.forEach(Replica::close);
+    }
+}
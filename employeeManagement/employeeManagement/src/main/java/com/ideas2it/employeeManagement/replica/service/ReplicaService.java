@@ -0,0 +1,111 @@
+package com.ideas2it.employeeManagement.replica.service;
+
+import com.ideas2it.employeeManagement.replica.replicaDTO.ReplicaRoutingStatsDTO;
+import com.ideas2it.employeeManagement.replica.replicaDTO.ReplicaStatusDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * Checks the read replicas on a schedule, putting them back in rotation once
+ * they answer again and have caught up, and reports how reads were routed. Each
+ * replica is measured as {@code employee_management.replica.healthy},
+ * {@code .lag} and {@code .connections}, tagged with its name; reads kept on the
+ * primary are counted as {@code employee_management.replica.primary_reads},
+ * tagged with the reason.
+ * </p>
+ */
+@Service
+public class ReplicaService {
+
+    private static final String METER = "employee_management.replica";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ReplicaRouter replicaRouter;
+
+    @PostConstruct
+    public void registerMeters() throws SQLException {
+        replicaRouter = dataSource.unwrap(ReplicaRouter.class);
+        for (Replica replica : replicaRouter.getReplicas()) {
+            Gauge.builder(METER + ".healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder(METER + ".lag", replica, Replica::getLagMillis)
+                    .tag("replica", replica.getName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            FunctionCounter.builder(METER + ".connections", replica, Replica::getConnections)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+        if (replicaRouter.hasReplicas()) {
+            FunctionCounter.builder(METER + ".primary_reads", replicaRouter, ReplicaRouter::getReadYourWritesReads)
+                    .tag("reason", "read_your_writes")
+                    .register(meterRegistry);
+            FunctionCounter.builder(METER + ".primary_reads", replicaRouter, ReplicaRouter::getFallbackReads)
+                    .tag("reason", "no_replica")
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean hasReplicas() {
+        return replicaRouter.hasReplicas();
+    }
+
+    public void bindClient(String clientId) {
+        replicaRouter.bindClient(clientId);
+    }
+
+    public void unbindClient() {
+        replicaRouter.unbindClient();
+    }
+
+    public String getBoundClient() {
+        return replicaRouter.getBoundClient();
+    }
+
+    public void recordWrite(String clientId) {
+        replicaRouter.recordWrite(clientId);
+    }
+
+    @Scheduled(fixedDelayString = "${employee-management.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        replicaRouter.checkHealth();
+    }
+
+    public ReplicaRoutingStatsDTO getStats() {
+        return ReplicaRoutingStatsDTO.builder()
+                .readYourWritesReads(replicaRouter.getReadYourWritesReads())
+                .fallbackReads(replicaRouter.getFallbackReads())
+                .recentWriters(replicaRouter.getRecentWriters())
+                .replicas(replicaRouter.getReplicas().stream()
+                        .map(ReplicaService::toDTO)
+                        .toList())
+                .build();
+    }
+
+    private static ReplicaStatusDTO toDTO(Replica replica) {
+        return ReplicaStatusDTO.builder()
+                .name(replica.getName())
+                .healthy(replica.isHealthy())
+                .lagMillis(replica.getLagMillis())
+                .connections(replica.getConnections())
+                .failures(replica.getFailures())
+                .lastCheckedAt(replica.getLastCheckedAt())
+                .lastError(replica.getLastError())
+                .build();
+    }
+}
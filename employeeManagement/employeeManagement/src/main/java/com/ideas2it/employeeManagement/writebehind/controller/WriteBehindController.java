@@ -0,0 +1,21 @@
+package com.ideas2it.employeeManagement.writebehind.controller;
+
+import com.ideas2it.employeeManagement.writebehind.service.WriteBehindQueue;
+import com.ideas2it.employeeManagement.writebehind.writeBehindDTO.WriteBehindStatusDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/write-behind")
+public class WriteBehindController {
+
+    @Autowired
+    private WriteBehindQueue writeBehindQueue;
+
+    @GetMapping("/status")
+    public WriteBehindStatusDTO getStatus() {
+        return writeBehindQueue.getStatus();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ideas2it.employeeManagement.writebehind.service;
+
+import com.ideas2it.employeeManagement.project.respository.EmployeeProjectRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * The queued mutations coalesced per entity: an entity deleted twice is deleted
+ * once, and an employee assigned to several departments only keeps the last one.
+ * Not thread-safe; the queue guards it with its lock.
+ * </p>
+ */
+class PendingWrites {
+
+    final Set<Long> employeeDeletes = new LinkedHashSet<>();
+
+    final Set<Long> departmentDeletes = new LinkedHashSet<>();
+
+    final Set<Long> projectDeletes = new LinkedHashSet<>();
+
+    final Map<Long, Long> departmentAssignments = new LinkedHashMap<>();
+
+    final Set<EmployeeProjectRepository.Link> projectAssignments = new LinkedHashSet<>();
+
+    void add(WriteBehindMutation mutation) {
+        switch (mutation.operation()) {
+            case DELETE_EMPLOYEE -> employeeDeletes.add(mutation.id());
+            case DELETE_DEPARTMENT -> departmentDeletes.add(mutation.id());
+            case DELETE_PROJECT -> projectDeletes.add(mutation.id());
+            case ASSIGN_DEPARTMENT -> departmentAssignments.put(mutation.id(), mutation.target());
+            case ASSIGN_PROJECT -> projectAssignments.add(
+                    new EmployeeProjectRepository.Link(mutation.id(), mutation.target()));
+        }
+    }
+
+    /**
+     * Adds mutations queued after this batch was taken, so a batch that failed to
+     * flush can be put back in front of them without undoing newer assignments.
+     */
+    void addAll(PendingWrites newer) {
+        newer.mutations().forEach(this::add);
+    }
+
+    List<WriteBehindMutation> mutations() {
+        List<WriteBehindMutation> mutations = new ArrayList<>(size());
+        employeeDeletes.forEach(id -> mutations.add(
+                new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_EMPLOYEE, id, 0)));
+        departmentDeletes.forEach(id -> mutations.add(
+                new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_DEPARTMENT, id, 0)));
+        projectDeletes.forEach(id -> mutations.add(
+                new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_PROJECT, id, 0)));
+        departmentAssignments.forEach((employeeId, departmentId) -> mutations.add(
+                new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_DEPARTMENT, employeeId, departmentId)));
+        projectAssignments.forEach(link -> mutations.add(
+                new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_PROJECT, link.employeeId(), link.projectId())));
+        return mutations;
+    }
+
+    int size() {
+        return employeeDeletes.size() + departmentDeletes.size() + projectDeletes.size()
+                + departmentAssignments.size() + projectAssignments.size();
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ideas2it.employeeManagement.writebehind.service;
+
+import com.ideas2it.employeeManagement.changefeed.service.ChangeFeedService;
+import com.ideas2it.employeeManagement.department.respository.DepartmentRepository;
+import com.ideas2it.employeeManagement.department.service.DepartmentStatsService;
+import com.ideas2it.employeeManagement.employee.respository.EmployeeRepository;
+import com.ideas2it.employeeManagement.employee.service.EmployeesChangedEvent;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import com.ideas2it.employeeManagement.project.respository.EmployeeProjectRepository;
+import com.ideas2it.employeeManagement.project.respository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Applies one batch of queued mutations in a single transaction, as set-based
+ * {@code UPDATE ... WHERE id IN (...)} statements of at most the configured batch
+ * size and one insert-if-absent statement per group of project assignments.
+ * The summary rows of every department whose employees changed are recomputed
+ * at the end, and the employees moved or deleted are announced with an
+ * {@link EmployeesChangedEvent} and appended to the change feed, along with the
+ * projects and departments changed. Only employees that were live when moved
+ * are appended as updated, and those deleted in the same batch only as deleted.
+ * </p>
+ */
+@Service
+public class WriteBehindFlusher {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeProjectRepository employeeProjectRepository;
+
+    @Autowired
+    private DepartmentStatsService departmentStatsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Value("${employee-management.write-behind.batch-size:1000}")
+    private int batchSize;
+
+    @Transactional
+    public void flush(PendingWrites writes) {
+        Set<Long> changedDepartments = new HashSet<>();
+        inBatches(writes.projectAssignments, employeeProjectRepository::insertIfAbsent);
+
+        Set<Long> movedEmployees = new HashSet<>();
+        Map<Long, List<Long>> employeesByDepartment = new LinkedHashMap<>();
+        writes.departmentAssignments.forEach((employeeId, departmentId) ->
+                employeesByDepartment.computeIfAbsent(departmentId, id -> new ArrayList<>()).add(employeeId));
+        employeesByDepartment.forEach((departmentId, employeeIds) -> inBatches(employeeIds, ids -> {
+            changedDepartments.addAll(employeeRepository.findDepartmentIdsByEmployeeIds(ids));
+            List<Long> liveEmployees = employeeRepository.findLiveIds(ids);
+            if (employeeRepository.assignDepartment(ids, departmentId) > 0) {
+                movedEmployees.addAll(liveEmployees);
+            }
+            changedDepartments.add(departmentId);
+        }));
+
+        List<Long> deletedEmployees = new ArrayList<>();
+        inBatches(writes.employeeDeletes, ids -> {
+            changedDepartments.addAll(employeeRepository.findDepartmentIdsByEmployeeIds(ids));
+            deletedEmployees.addAll(employeeRepository.findLiveIds(ids));
+            employeeRepository.softDeleteByIds(ids);
+        });
+        inBatches(writes.projectDeletes, projectRepository::softDeleteByIds);
+        inBatches(writes.departmentDeletes, departmentRepository::softDeleteByIds);
+
+        changedDepartments.removeIf(Objects::isNull);
+        departmentStatsService.recalculate(changedDepartments);
+        movedEmployees.removeAll(writes.employeeDeletes);
+
+        Set<Long> changedEmployees = new HashSet<>(writes.departmentAssignments.keySet());
+        changedEmployees.addAll(writes.employeeDeletes);
+        if (!changedEmployees.isEmpty()) {
+            eventPublisher.publishEvent(EmployeesChangedEvent.ofEmployees(changedEmployees));
+        }
+        changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.UPDATED,
+                writes.projectAssignments.stream().map(EmployeeProjectRepository.Link::projectId).distinct().toList());
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.UPDATED, movedEmployees);
+        changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.DELETED, deletedEmployees);
+        changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.DELETED, writes.projectDeletes);
+        changeFeedService.append(ChangeEvent.EntityType.DEPARTMENT, ChangeEvent.Operation.DELETED,
+                writes.departmentDeletes);
+    }
+
+    private <T> void inBatches(Collection<T> items, Consumer<List<T>> action) {
+        List<T> batch = new ArrayList<>(Math.min(items.size(), batchSize));
+        for (T item : items) {
+            batch.add(item);
+            if (batch.size() == batchSize) {
+                action.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            action.accept(batch);
+        }
+    }
+}
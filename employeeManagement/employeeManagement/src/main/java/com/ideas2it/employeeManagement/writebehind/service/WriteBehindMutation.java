@@ -0,0 +1,31 @@
+package com.ideas2it.employeeManagement.writebehind.service;
+
+/**
+ * <p>
+ * One queued change: the operation, the ID of the entity it applies to and, for
+ * assignments, the ID of the department or project. Mutations are written to the
+ * journal one per line as {@code OPERATION,id,target}.
+ * </p>
+ */
+public record WriteBehindMutation(Operation operation, long id, long target) {
+
+    public enum Operation {
+        DELETE_EMPLOYEE,
+        DELETE_DEPARTMENT,
+        DELETE_PROJECT,
+        ASSIGN_DEPARTMENT,
+        ASSIGN_PROJECT
+    }
+
+    public String toJournalLine() {
+        return operation + "," + id + "," + target;
+    }
+
+    public static WriteBehindMutation fromJournalLine(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Malformed journal entry: " + line);
+        }
+        return new WriteBehindMutation(Operation.valueOf(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+    }
+}
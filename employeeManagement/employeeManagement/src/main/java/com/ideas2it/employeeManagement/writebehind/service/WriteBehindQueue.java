@@ -0,0 +1,442 @@
+package com.ideas2it.employeeManagement.writebehind.service;
+
+import com.ideas2it.employeeManagement.writebehind.writeBehindDTO.WriteBehindStatusDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * Optional write-behind mode for soft deletes and assignments. When enabled, the
+ * controllers hand these mutations to the queue instead of running a
+ * read-modify-save round trip each, and a background flush applies everything
+ * queued since the previous flush as a few batched statements.
+ * </p>
+ * <p>
+ * Every mutation is appended to a local journal and forced to disk before the
+ * request is acknowledged. Writers append under the queue's lock and force the
+ * journal after releasing it, one at a time: a force covers every entry appended
+ * before it, so writers that were waiting meanwhile find their entry already on
+ * disk and concurrent requests share one fsync. On startup the journal is
+ * replayed, so mutations that were acknowledged but not yet flushed survive a
+ * crash. After each flush the journal is atomically replaced by one holding only
+ * what is still queued. Replaying an entry that had already been flushed is
+ * harmless, because soft deletes and assignments can be applied twice.
+ * </p>
+ * <p>
+ * A batch failing because the database could not be reached is retried whole on
+ * the next flush. Any other failure is narrowed down by applying the batch's
+ * mutations one at a time; those failing again are retried on later flushes, up
+ * to {@code employee-management.write-behind.max-attempts} times, and then moved
+ * to the dead-letter journal, so one bad mutation cannot hold back everything
+ * queued after it.
+ * </p>
+ */
+@Component
+public class WriteBehindQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+    @Value("${employee-management.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${employee-management.write-behind.journal:data/write-behind.journal}")
+    private Path journalPath;
+
+    @Value("${employee-management.write-behind.dead-letter-journal:data/write-behind.dead-letter}")
+    private Path deadLetterPath;
+
+    @Value("${employee-management.write-behind.max-attempts:3}")
+    private int maxAttempts;
+
+    @Autowired
+    private WriteBehindFlusher flusher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private PendingWrites pending = new PendingWrites();
+
+    private long oldestPendingNanos;
+
+    private FileChannel journal;
+
+    private long appendedEntries;
+
+    private volatile long syncedEntries;
+
+    private final Map<WriteBehindMutation, Integer> failedAttempts = new HashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final LongAdder flushes = new LongAdder();
+
+    private final LongAdder failedFlushes = new LongAdder();
+
+    private final LongAdder flushedMutations = new LongAdder();
+
+    private final LongAdder journalSyncs = new LongAdder();
+
+    private Counter deadLetters;
+
+    private volatile long lastFlushMillis;
+
+    private volatile long maxFlushMillis;
+
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path directory = journalPath.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        if (Files.exists(journalPath)) {
+            replayJournal();
+        }
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        flushTimer = Timer.builder("employee_management.write_behind.flush").register(meterRegistry);
+        deadLetters = Counter.builder("employee_management.write_behind.dead_letters").register(meterRegistry);
+        FunctionCounter.builder("employee_management.write_behind.journal_syncs", journalSyncs, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("employee_management.write_behind.depth", queueDepth, AtomicInteger::get)
+                .register(meterRegistry);
+        logger.info("Write-behind queue started with journal {}, {} mutations recovered",
+                journalPath.toAbsolutePath(), queueDepth.get());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        syncLock.lock();
+        lock.lock();
+        try {
+            journal.close();
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void deleteEmployee(Long employeeId) {
+        enqueue(new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_EMPLOYEE, employeeId, 0));
+    }
+
+    public void deleteDepartment(Long departmentId) {
+        enqueue(new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_DEPARTMENT, departmentId, 0));
+    }
+
+    public void deleteProject(Long projectId) {
+        enqueue(new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_PROJECT, projectId, 0));
+    }
+
+    public void assignEmployeeToDepartment(Long employeeId, Long departmentId) {
+        enqueue(new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_DEPARTMENT, employeeId, departmentId));
+    }
+
+    public void assignEmployeeToProject(Long employeeId, Long projectId) {
+        enqueue(new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_PROJECT, employeeId, projectId));
+    }
+
+    /**
+     * Applies everything queued so far. Mutations that fail stay queued, ahead of
+     * anything queued meanwhile, and are retried on the next flush.
+     */
+    @Scheduled(fixedDelayString = "${employee-management.write-behind.flush-delay-ms:1000}")
+    public void flush() {
+        if (!enabled || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            PendingWrites batch;
+            long batchStartNanos;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                batchStartNanos = oldestPendingNanos;
+                pending = new PendingWrites();
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            PendingWrites failed;
+            try {
+                flusher.flush(batch);
+                failed = new PendingWrites();
+                failedAttempts.clear();
+                long elapsedNanos = System.nanoTime() - start;
+                flushTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                lastFlushMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+                maxFlushMillis = Math.max(maxFlushMillis, lastFlushMillis);
+                flushes.increment();
+                flushedMutations.add(batch.size());
+            } catch (RuntimeException e) {
+                failedFlushes.increment();
+                if (isUnavailable(e)) {
+                    logger.warn("Write-behind flush of {} mutations failed, retrying on the next flush", batch.size(), e);
+                    failed = batch;
+                } else {
+                    logger.warn("Write-behind flush of {} mutations failed, applying them one at a time",
+                            batch.size(), e);
+                    failed = flushEach(batch);
+                }
+            }
+            evict("departments", batch.departmentDeletes);
+            evict("projects", batch.projectDeletes);
+
+            syncLock.lock();
+            lock.lock();
+            try {
+                if (!failed.isEmpty()) {
+                    failed.addAll(pending);
+                    pending = failed;
+                    oldestPendingNanos = batchStartNanos;
+                }
+                queueDepth.set(pending.size());
+                rewriteJournal(pending.mutations());
+            } finally {
+                lock.unlock();
+                syncLock.unlock();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public WriteBehindStatusDTO getStatus() {
+        WriteBehindStatusDTO.WriteBehindStatusDTOBuilder status = WriteBehindStatusDTO.builder()
+                .enabled(enabled)
+                .flushes(flushes.sum())
+                .failedFlushes(failedFlushes.sum())
+                .flushedMutations(flushedMutations.sum())
+                .lastFlushMillis(lastFlushMillis)
+                .maxFlushMillis(maxFlushMillis)
+                .deadLetters(deadLetters != null ? (long) deadLetters.count() : 0)
+                .journalSyncs(journalSyncs.sum());
+        lock.lock();
+        try {
+            status.queueDepth(pending.size());
+            if (!pending.isEmpty()) {
+                status.oldestPendingMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldestPendingNanos));
+            }
+            if (journal != null && journal.isOpen()) {
+                status.journalBytes(journal.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+        return status.build();
+    }
+
+    private void enqueue(WriteBehindMutation mutation) {
+        long entry;
+        lock.lock();
+        try {
+            journal.write(ByteBuffer.wrap((mutation.toJournalLine() + "\n").getBytes(StandardCharsets.UTF_8)));
+            entry = ++appendedEntries;
+            if (pending.isEmpty()) {
+                oldestPendingNanos = System.nanoTime();
+            }
+            pending.add(mutation);
+            queueDepth.set(pending.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to the write-behind journal", e);
+        } finally {
+            lock.unlock();
+        }
+        sync(entry);
+    }
+
+    /**
+     * Returns once the given journal entry is on disk, forcing the journal unless
+     * a force made by another writer since the entry was appended already covers
+     * it. The journal is only replaced while holding the sync lock, so the channel
+     * cannot change under a force.
+     */
+    private void sync(long entry) {
+        syncLock.lock();
+        try {
+            if (syncedEntries >= entry) {
+                return;
+            }
+            long appended;
+            lock.lock();
+            try {
+                appended = appendedEntries;
+            } finally {
+                lock.unlock();
+            }
+            journal.force(false);
+            journalSyncs.increment();
+            syncedEntries = appended;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to the write-behind journal", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the mutations of a failed batch one at a time and returns those that
+     * failed and may be retried. A mutation failing for the last allowed time is
+     * dead-lettered. If the database becomes unreachable midway, the mutations not
+     * tried yet are returned as they are.
+     */
+    private PendingWrites flushEach(PendingWrites batch) {
+        PendingWrites failed = new PendingWrites();
+        List<WriteBehindMutation> mutations = batch.mutations();
+        for (int i = 0; i < mutations.size(); i++) {
+            WriteBehindMutation mutation = mutations.get(i);
+            PendingWrites single = new PendingWrites();
+            single.add(mutation);
+            try {
+                flusher.flush(single);
+                failedAttempts.remove(mutation);
+                flushedMutations.increment();
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    mutations.subList(i, mutations.size()).forEach(failed::add);
+                    break;
+                }
+                int attempts = failedAttempts.merge(mutation, 1, Integer::sum);
+                if (attempts < maxAttempts) {
+                    logger.warn("Write-behind mutation {} failed {} of {} times", mutation.toJournalLine(), attempts,
+                            maxAttempts, e);
+                    failed.add(mutation);
+                } else {
+                    failedAttempts.remove(mutation);
+                    deadLetter(mutation, e);
+                }
+            }
+        }
+        failedAttempts.keySet().retainAll(failed.mutations());
+        return failed;
+    }
+
+    private static boolean isUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException || e instanceof CannotCreateTransactionException;
+    }
+
+    private void deadLetter(WriteBehindMutation mutation, RuntimeException e) {
+        logger.error("Write-behind mutation {} failed {} times, moving it to the dead-letter journal {}",
+                mutation.toJournalLine(), maxAttempts, deadLetterPath.toAbsolutePath(), e);
+        try {
+            Files.writeString(deadLetterPath, mutation.toJournalLine() + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE,
+                    StandardOpenOption.SYNC);
+        } catch (IOException ioException) {
+            logger.error("Could not write mutation {} to the dead-letter journal", mutation.toJournalLine(),
+                    ioException);
+        }
+        deadLetters.increment();
+    }
+
+    /**
+     * A line cut short by a crash during the append is skipped; the request that
+     * wrote it was never acknowledged.
+     */
+    private void replayJournal() throws IOException {
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                pending.add(WriteBehindMutation.fromJournalLine(line));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping unreadable write-behind journal entry '{}'", line);
+            }
+        }
+        if (!pending.isEmpty()) {
+            oldestPendingNanos = System.nanoTime();
+        }
+        queueDepth.set(pending.size());
+    }
+
+    private void rewriteJournal(List<WriteBehindMutation> mutations) {
+        Path rewritten = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(rewritten, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                StringBuilder content = new StringBuilder();
+                mutations.forEach(mutation -> content.append(mutation.toJournalLine()).append('\n'));
+                channel.write(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+                channel.force(true);
+            }
+            Files.move(rewritten, journalPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            journal.close();
+            journal = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            syncedEntries = appendedEntries;
+        } catch (IOException e) {
+            logger.error("Could not compact the write-behind journal, flushed entries will be replayed", e);
+        }
+    }
+
+    private void evict(String cacheName, Set<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ideas2it.employeeManagement.writebehind.writeBehindDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ * State of the write-behind queue: how many coalesced mutations wait to be
+ * flushed and for how long the oldest has waited, how the flushes have gone so
+ * far, how often the journal was forced to disk and how many mutations were
+ * given up on, and the size of the journal on disk.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WriteBehindStatusDTO {
+    private boolean enabled;
+    private int queueDepth;
+    private long oldestPendingMillis;
+    private long flushes;
+    private long failedFlushes;
+    private long flushedMutations;
+    private long lastFlushMillis;
+    private long maxFlushMillis;
+    private long journalBytes;
+    private long journalSyncs;
+    private long deadLetters;
+}
@@ -0,0 +1,8 @@
+-- V1.1 creates employees_seq starting at 1, but databases baselined from ddl-auto
+-- already hold employees with keys generated by IDENTITY. Leave a full
+-- allocation of 50 above the highest key, and never move it back.
+
+select setval('employees_seq', greatest(
+        (select last_value from employees_seq),
+        (select max(employee_id) from employees) + 50))
+where exists (select 1 from employees);
@@ -0,0 +1,6 @@
+-- Finds the rows due for archival without scanning the live ones, and without
+-- adding the live rows to the index.
+
+create index idx_employees_archivable on employees (deleted_at) where is_deleted = true;
+create index idx_departments_archivable on departments (deleted_at) where is_deleted = true;
+create index idx_projects_archivable on projects (deleted_at) where is_deleted = true;
@@ -0,0 +1,13 @@
+-- Searches always restrict to live employees, so index only the live rows
+-- instead of leading every index with is_deleted. The department index stays
+-- complete: the foreign key and the archival check look up deleted rows too.
+
+drop index idx_employees_deleted_place_salary;
+drop index idx_employees_deleted_department;
+drop index idx_employees_deleted_date_of_birth;
+drop index idx_employees_deleted_experience;
+
+create index idx_employees_live_place_salary on employees (place, salary) where is_deleted = false;
+create index idx_employees_department on employees (department_id);
+create index idx_employees_live_date_of_birth on employees (date_of_birth) where is_deleted = false;
+create index idx_employees_live_experience on employees (experience) where is_deleted = false;
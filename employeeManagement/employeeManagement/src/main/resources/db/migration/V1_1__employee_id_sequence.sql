@@ -0,0 +1,7 @@
+-- Employee IDs come from a sequence allocated 50 at a time, so a batch of new
+-- employees is inserted without a round trip per row for its generated key.
+-- On PostgreSQL, V2 moves the sequence past the keys already in use.
+
+create sequence employees_seq start with 1 increment by 50;
+
+alter table employees alter column employee_id drop identity;
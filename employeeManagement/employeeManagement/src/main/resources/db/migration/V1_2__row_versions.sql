@@ -0,0 +1,6 @@
+-- Optimistic locking: every update raises the row's version, and a stale
+-- version is rejected instead of overwriting a concurrent change.
+
+alter table departments add column version bigint default 0 not null;
+alter table projects add column version bigint default 0 not null;
+alter table employees add column version bigint default 0 not null;
@@ -0,0 +1,13 @@
+-- Headcount and payroll of each department, kept up to date with every change
+-- to its employees. Missing rows are filled in when the application starts.
+
+create table department_stats (
+    department_id bigint not null,
+    headcount bigint not null,
+    total_salary float(53) not null,
+    total_experience bigint not null,
+    primary key (department_id)
+);
+
+alter table department_stats
+    add constraint FKileoimveke97dd49styqfl5xv foreign key (department_id) references departments;
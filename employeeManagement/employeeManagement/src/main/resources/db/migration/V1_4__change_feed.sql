@@ -0,0 +1,19 @@
+-- The change feed: an outbox of changes in commit order, numbered by a single
+-- counter row, and expired by age.
+
+create table change_sequence (
+    id integer not null,
+    last_sequence bigint not null,
+    primary key (id)
+);
+
+create table change_events (
+    sequence bigint not null,
+    entity_type varchar(16) not null check (entity_type in ('EMPLOYEE','DEPARTMENT','PROJECT')),
+    entity_id bigint not null,
+    operation varchar(16) not null check (operation in ('CREATED','UPDATED','DELETED')),
+    occurred_at timestamp(6) with time zone not null,
+    primary key (sequence)
+);
+
+create index idx_change_events_occurred_at on change_events (occurred_at);
@@ -0,0 +1,8 @@
+-- Indexes for the employee search filters and the department name lookup.
+-- On PostgreSQL, V5 replaces the employee indexes with partial ones.
+
+create index idx_departments_name on departments (department_name);
+create index idx_employees_deleted_place_salary on employees (is_deleted, place, salary);
+create index idx_employees_deleted_department on employees (is_deleted, department_id);
+create index idx_employees_deleted_date_of_birth on employees (is_deleted, date_of_birth);
+create index idx_employees_deleted_experience on employees (is_deleted, experience);
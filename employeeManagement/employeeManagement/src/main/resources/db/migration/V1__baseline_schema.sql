@@ -0,0 +1,44 @@
+-- Schema as created by spring.jpa.hibernate.ddl-auto=update before the schema
+-- was managed by Flyway. Databases that were already managed by ddl-auto are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip this
+-- script, so everything added since lives in the later migrations.
+
+create table departments (
+    department_id bigint generated by default as identity,
+    department_name varchar(255),
+    is_deleted boolean,
+    primary key (department_id)
+);
+
+create table employee_project (
+    employee_id bigint not null,
+    project_id bigint not null
+);
+
+create table employees (
+    employee_id bigint generated by default as identity,
+    date_of_birth date,
+    employee_name varchar(255),
+    experience integer,
+    is_deleted boolean,
+    place varchar(255),
+    salary float(53),
+    department_id bigint,
+    primary key (employee_id)
+);
+
+create table projects (
+    project_id bigint generated by default as identity,
+    is_deleted boolean,
+    project_name varchar(255),
+    primary key (project_id)
+);
+
+alter table employee_project
+    add constraint FK21riulocr3wn8p1gf1s211e7y foreign key (project_id) references projects;
+
+alter table employee_project
+    add constraint FKc3ieuo3g8v3rwtaiehx1e5kdr foreign key (employee_id) references employees;
+
+alter table employees
+    add constraint FKgy4qe3dnqrm3ktd76sxp7n4c2 foreign key (department_id) references departments;
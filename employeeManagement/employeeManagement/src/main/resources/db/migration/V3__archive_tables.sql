@@ -0,0 +1,53 @@
+-- When each row was soft-deleted, so it can be archived once the retention has
+-- passed. Rows deleted before this release count as deleted now.
+
+alter table employees add column deleted_at timestamp(6) with time zone;
+alter table departments add column deleted_at timestamp(6) with time zone;
+alter table projects add column deleted_at timestamp(6) with time zone;
+
+update employees set deleted_at = current_timestamp where is_deleted = true;
+update departments set deleted_at = current_timestamp where is_deleted = true;
+update projects set deleted_at = current_timestamp where is_deleted = true;
+
+-- Soft-deleted rows moved out of the live tables by the archival job. Archived
+-- employees keep the name of their department at the time they were archived.
+
+create table employees_archive (
+    employee_id bigint not null,
+    employee_name varchar(255),
+    place varchar(255),
+    date_of_birth date,
+    experience integer,
+    salary float(53),
+    department_id bigint,
+    department_name varchar(255),
+    version bigint not null,
+    deleted_at timestamp(6) with time zone,
+    archived_at timestamp(6) with time zone not null,
+    primary key (employee_id)
+);
+
+create table departments_archive (
+    department_id bigint not null,
+    department_name varchar(255),
+    version bigint not null,
+    deleted_at timestamp(6) with time zone,
+    archived_at timestamp(6) with time zone not null,
+    primary key (department_id)
+);
+
+create table projects_archive (
+    project_id bigint not null,
+    project_name varchar(255),
+    version bigint not null,
+    deleted_at timestamp(6) with time zone,
+    archived_at timestamp(6) with time zone not null,
+    primary key (project_id)
+);
+
+create table employee_project_archive (
+    employee_id bigint not null,
+    project_id bigint not null,
+    archived_at timestamp(6) with time zone not null,
+    primary key (employee_id, project_id)
+);
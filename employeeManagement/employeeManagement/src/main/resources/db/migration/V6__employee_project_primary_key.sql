@@ -0,0 +1,16 @@
+-- ddl-auto created the join table of the former List mapping without a primary
+-- key, so an employee could be linked to the same project more than once. Keep
+-- one row per pair and add the key, which project assignments rely on to skip
+-- pairs that are already linked.
+
+create table employee_project_distinct as
+    select distinct employee_id, project_id from employee_project;
+
+delete from employee_project;
+
+insert into employee_project (employee_id, project_id)
+    select employee_id, project_id from employee_project_distinct;
+
+drop table employee_project_distinct;
+
+alter table employee_project add primary key (employee_id, project_id);
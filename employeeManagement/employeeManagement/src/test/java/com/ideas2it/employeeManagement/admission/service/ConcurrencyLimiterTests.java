@@ -0,0 +1,87 @@
+package com.ideas2it.employeeManagement.admission.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTests {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+	@Test
+	void requestsBeyondTheLimitAreRejected() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 10, 3.0, 0.5, 0);
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+
+		limiter.release(FAST);
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+		assertThat(limiter.getAdmitted()).isEqualTo(3);
+		assertThat(limiter.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	void limitGrowsWhileLatencyStaysAtTheBaselineAndTheLimitIsUsed() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 4, 3.0, 0.5, 0);
+
+		for (int i = 0; i < 100; i++) {
+			limiter.tryAcquire();
+			limiter.tryAcquire();
+			limiter.release(FAST);
+			limiter.release(FAST);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(4);
+		assertThat(limiter.getBaselineMillis()).isEqualTo(10.0);
+	}
+
+	@Test
+	void limitDoesNotGrowWhenItIsNotUsed() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 10, 3.0, 0.5, 0);
+
+		for (int i = 0; i < 100; i++) {
+			limiter.tryAcquire();
+			limiter.release(FAST);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void limitIsCutWhenLatencyRisesAboveTheTolerance() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(8, 2, 10, 3.0, 0.5, 0);
+		limiter.tryAcquire();
+		limiter.release(FAST);
+
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire();
+			limiter.release(SLOW);
+		}
+
+		assertThat(limiter.getShortTermMillis()).isGreaterThan(30.0);
+		assertThat(limiter.getLimit()).isBetween(2, 4);
+	}
+
+	@Test
+	void latencyUnderTheFloorNeverCutsTheLimit() {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(8, 2, 10, 3.0, 0.5, SLOW);
+		limiter.tryAcquire();
+		limiter.release(TimeUnit.MILLISECONDS.toNanos(1));
+
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire();
+			limiter.release(FAST);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(8);
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.ideas2it.employeeManagement.admission.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+	@Test
+	void burstUpToTheCapacityIsAdmitted() {
+		TokenBucket bucket = new TokenBucket(3, 0.001);
+
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isGreaterThan(TimeUnit.SECONDS.toNanos(900));
+	}
+
+	@Test
+	void emptyBucketRefillsAtTheRate() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(1, 100);
+		bucket.tryConsume();
+
+		assertThat(bucket.tryConsume()).isPositive().isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+
+		Thread.sleep(20);
+
+		assertThat(bucket.tryConsume()).isZero();
+	}
+
+	@Test
+	void refundedTokenCanBeTakenAgain() {
+		TokenBucket bucket = new TokenBucket(1, 0.001);
+		bucket.tryConsume();
+
+		bucket.refund();
+
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isPositive();
+	}
+
+	@Test
+	void refundDoesNotOverfillTheBucket() {
+		TokenBucket bucket = new TokenBucket(2, 0.001);
+
+		bucket.refund();
+
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isPositive();
+	}
+
+}
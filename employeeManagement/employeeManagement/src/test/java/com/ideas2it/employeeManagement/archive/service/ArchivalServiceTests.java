@@ -0,0 +1,159 @@
+package com.ideas2it.employeeManagement.archive.service;
+
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivalRunDTO;
+import com.ideas2it.employeeManagement.archive.archiveDTO.ArchivedEmployeeDTO;
+import com.ideas2it.employeeManagement.archive.respository.ArchiveRepository;
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import com.ideas2it.employeeManagement.model.Project;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+		"employee-management.archive.chunk-size=2",
+		"employee-management.archive.retention=1d"
+})
+@Import({ArchivalService.class, ArchiveRepository.class, SimpleMeterRegistry.class})
+class ArchivalServiceTests {
+
+	private static final Instant DUE = Instant.now().minus(Duration.ofDays(10));
+
+	private static final Instant RECENT = Instant.now().minus(Duration.ofHours(1));
+
+	@Autowired
+	private ArchivalService archivalService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Department deletedDepartment;
+
+	private Department departmentWithRecentEmployee;
+
+	private Project deletedProject;
+
+	private Project liveProject;
+
+	private Employee linkedEmployee;
+
+	@BeforeEach
+	void setUp() {
+		deletedDepartment = entityManager.persist(department("Closed", DUE));
+		departmentWithRecentEmployee = entityManager.persist(department("Closing", DUE));
+		Department liveDepartment = entityManager.persist(department("Open", null));
+		deletedProject = entityManager.persist(project("Finished", DUE));
+		liveProject = entityManager.persist(project("Running", null));
+		linkedEmployee = employee("Linked", deletedDepartment, DUE);
+		linkedEmployee.setProjects(Set.of(deletedProject, liveProject));
+		entityManager.persist(linkedEmployee);
+		entityManager.persist(employee("Second", deletedDepartment, DUE));
+		entityManager.persist(employee("Third", deletedDepartment, DUE));
+		entityManager.persist(employee("Recent", departmentWithRecentEmployee, RECENT));
+		entityManager.persist(employee("Live", liveDepartment, null));
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void archivesRowsDeletedBeforeTheRetentionInChunks() {
+		ArchivalRunDTO run = archivalService.run().orElseThrow();
+
+		assertThat(run.getError()).isNull();
+		assertThat(run.getEmployees()).isEqualTo(3);
+		assertThat(run.getProjects()).isEqualTo(1);
+		assertThat(run.getDepartments()).isEqualTo(1);
+		assertThat(run.getEmployeeProjectLinks()).isEqualTo(2);
+		assertThat(run.getChunks()).isEqualTo(4);
+		assertThat(count("employees")).isEqualTo(2);
+		assertThat(count("employees_archive")).isEqualTo(3);
+		assertThat(count("employee_project")).isZero();
+		assertThat(count("employee_project_archive")).isEqualTo(2);
+		assertThat(jdbcTemplate.queryForList("select project_id from projects", Long.class))
+				.containsExactly(liveProject.getProjectId());
+		assertThat(meterRegistry.counter("employee_management.archive.rows", "table", "employees").count())
+				.isEqualTo(3);
+	}
+
+	@Test
+	void departmentIsArchivedOnlyOnceNoEmployeeRefersToIt() {
+		archivalService.run();
+
+		assertThat(jdbcTemplate.queryForList("select department_id from departments_archive", Long.class))
+				.containsExactly(deletedDepartment.getDepartmentId());
+		assertThat(jdbcTemplate.queryForList("select department_id from departments where is_deleted = true",
+				Long.class)).containsExactly(departmentWithRecentEmployee.getDepartmentId());
+	}
+
+	@Test
+	void archivedEmployeeKeepsItsDepartmentNameAndProjects() {
+		archivalService.run();
+
+		ArchivedEmployeeDTO archived = archivalService.getArchivedEmployee(linkedEmployee.getEmployeeId())
+				.orElseThrow();
+
+		assertThat(archived.getEmployeeName()).isEqualTo("Linked");
+		assertThat(archived.getDepartmentName()).isEqualTo("Closed");
+		assertThat(archived.getProjectIds())
+				.containsExactlyInAnyOrder(deletedProject.getProjectId(), liveProject.getProjectId());
+	}
+
+	@Test
+	void secondRunFindsNothingLeftToArchive() {
+		archivalService.run();
+
+		ArchivalRunDTO run = archivalService.run().orElseThrow();
+
+		assertThat(run.getChunks()).isZero();
+		assertThat(run.getEmployees() + run.getProjects() + run.getDepartments()).isZero();
+		assertThat(archivalService.getStatus().getLastRun()).isSameAs(run);
+	}
+
+	private long count(String table) {
+		return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+	}
+
+	private static Department department(String name, Instant deletedAt) {
+		Department department = Department.builder().departmentName(name).build();
+		department.setDeleted(deletedAt != null);
+		department.setDeletedAt(deletedAt);
+		return department;
+	}
+
+	private static Project project(String name, Instant deletedAt) {
+		Project project = Project.builder().projectName(name).build();
+		project.setDeleted(deletedAt != null);
+		project.setDeletedAt(deletedAt);
+		return project;
+	}
+
+	private static Employee employee(String name, Department department, Instant deletedAt) {
+		Employee employee = Employee.builder()
+				.employeeName(name)
+				.place("Chennai")
+				.department(department)
+				.build();
+		employee.setDeleted(deletedAt != null);
+		employee.setDeletedAt(deletedAt);
+		return employee;
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.ideas2it.employeeManagement.changefeed.service;
+
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeEventDTO;
+import com.ideas2it.employeeManagement.changefeed.respository.ChangeEventRepository;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChangeFeedDispatcherTests {
+
+	private static final List<ChangeEventDTO> CHANGES = LongStream.rangeClosed(1, 5)
+			.mapToObj(sequence -> ChangeEventDTO.builder()
+					.sequence(sequence)
+					.entityType(ChangeEvent.EntityType.EMPLOYEE)
+					.entityId(sequence)
+					.operation(ChangeEvent.Operation.UPDATED)
+					.occurredAt(Instant.now())
+					.build())
+			.toList();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private ChangeFeedDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		ChangeEventRepository changeEventRepository = mock(ChangeEventRepository.class);
+		when(changeEventRepository.getLastSequence()).thenReturn((long) CHANGES.size());
+		when(changeEventRepository.findAfter(anyLong(), anyInt())).thenAnswer(invocation -> CHANGES.stream()
+				.filter(change -> change.getSequence() > invocation.<Long>getArgument(0))
+				.limit(invocation.<Integer>getArgument(1))
+				.toList());
+		dispatcher = new ChangeFeedDispatcher();
+		ReflectionTestUtils.setField(dispatcher, "changeEventRepository", changeEventRepository);
+		ReflectionTestUtils.setField(dispatcher, "streamTimeout", Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(dispatcher, "sendTimeout", Duration.ZERO);
+		ReflectionTestUtils.setField(dispatcher, "subscriberBuffer", 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void stalledSubscriberDoesNotHoldBackTheOthers() throws InterruptedException {
+		RecordingEmitter stalled = new RecordingEmitter(release);
+		RecordingEmitter healthy = new RecordingEmitter(null);
+
+		dispatcher.subscribe(stalled, 0);
+		dispatcher.subscribe(healthy, 0);
+
+		assertThat(await(() -> healthy.sent.get() == CHANGES.size())).isTrue();
+		assertThat(stalled.sent.get()).isZero();
+	}
+
+	@Test
+	void subscriberStalledPastTheSendTimeoutIsClosed() throws InterruptedException {
+		RecordingEmitter stalled = new RecordingEmitter(release);
+		dispatcher.subscribe(stalled, 0);
+		assertThat(await(() -> stalled.waiting.get() == 1)).isTrue();
+
+		assertThat(await(() -> {
+			dispatcher.onChangesAppended(new ChangesAppendedEvent(CHANGES.size()));
+			return subscribers().isEmpty();
+		})).isTrue();
+		release.countDown();
+
+		assertThat(await(() -> stalled.completed)).isTrue();
+		assertThat(stalled.sent.get()).isLessThan(CHANGES.size());
+	}
+
+	@Test
+	void subscriberResumesAfterTheGivenSequence() throws InterruptedException {
+		RecordingEmitter emitter = new RecordingEmitter(null);
+
+		dispatcher.subscribe(emitter, 3);
+
+		assertThat(await(() -> emitter.sent.get() == 2)).isTrue();
+		Thread.sleep(100);
+		assertThat(emitter.sent.get()).isEqualTo(2);
+	}
+
+	private Collection<?> subscribers() {
+		return (Collection<?>) ReflectionTestUtils.getField(dispatcher, "subscribers");
+	}
+
+	private static boolean await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				return false;
+			}
+			Thread.sleep(10);
+		}
+		return true;
+	}
+
+	/**
+	 * Counts the events sent instead of writing them, and blocks each send until
+	 * released when given a latch, like a client that stopped reading.
+	 */
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final CountDownLatch release;
+
+		private final AtomicInteger waiting = new AtomicInteger();
+
+		private final AtomicInteger sent = new AtomicInteger();
+
+		private volatile boolean completed;
+
+		RecordingEmitter(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (release != null) {
+				waiting.incrementAndGet();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException(e);
+				}
+			}
+			sent.incrementAndGet();
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+	}
+}
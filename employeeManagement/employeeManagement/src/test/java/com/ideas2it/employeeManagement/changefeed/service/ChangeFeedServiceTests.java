@@ -0,0 +1,77 @@
+package com.ideas2it.employeeManagement.changefeed.service;
+
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeEventDTO;
+import com.ideas2it.employeeManagement.changefeed.changeFeedDTO.ChangeFeedPageDTO;
+import com.ideas2it.employeeManagement.changefeed.respository.ChangeEventRepository;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ChangeFeedService.class, ChangeEventRepository.class})
+class ChangeFeedServiceTests {
+
+	@Autowired
+	private ChangeFeedService changeFeedService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		changeFeedService.initialize();
+	}
+
+	@Test
+	void appendsConsecutiveSequencesAcrossCalls() {
+		changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.CREATED, List.of(7L, 8L, 9L));
+		changeFeedService.append(ChangeEvent.EntityType.PROJECT, ChangeEvent.Operation.DELETED, 3L);
+
+		ChangeFeedPageDTO page = changeFeedService.getChanges(0, 100).orElseThrow();
+
+		assertThat(page.getChanges()).extracting(ChangeEventDTO::getSequence).containsExactly(1L, 2L, 3L, 4L);
+		assertThat(page.getChanges()).extracting(ChangeEventDTO::getEntityId).containsExactly(7L, 8L, 9L, 3L);
+		assertThat(page.getNextSequence()).isEqualTo(4L);
+		assertThat(changeFeedService.getLastSequence()).isEqualTo(4L);
+	}
+
+	@Test
+	void resumesAfterTheLastSequenceRead() {
+		changeFeedService.append(ChangeEvent.EntityType.DEPARTMENT, ChangeEvent.Operation.UPDATED, List.of(1L, 2L, 3L));
+
+		ChangeFeedPageDTO first = changeFeedService.getChanges(0, 2).orElseThrow();
+		ChangeFeedPageDTO second = changeFeedService.getChanges(first.getNextSequence(), 2).orElseThrow();
+		ChangeFeedPageDTO caughtUp = changeFeedService.getChanges(second.getNextSequence(), 2).orElseThrow();
+
+		assertThat(first.getChanges()).extracting(ChangeEventDTO::getEntityId).containsExactly(1L, 2L);
+		assertThat(second.getChanges()).extracting(ChangeEventDTO::getEntityId).containsExactly(3L);
+		assertThat(caughtUp.getChanges()).isEmpty();
+		assertThat(caughtUp.getNextSequence()).isEqualTo(3L);
+	}
+
+	@Test
+	void consumerBehindThePrunedChangesIsExpired() {
+		changeFeedService.append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.UPDATED, List.of(1L, 2L, 3L));
+		jdbcTemplate.update("update change_events set occurred_at = ? where sequence <= 2",
+				Timestamp.from(Instant.now().minus(Duration.ofDays(30))));
+
+		changeFeedService.prune();
+
+		assertThat(changeFeedService.isExpired(0)).isTrue();
+		assertThat(changeFeedService.getChanges(0, 100)).isEmpty();
+		assertThat(changeFeedService.isExpired(2)).isFalse();
+		assertThat(changeFeedService.getChanges(2, 100).orElseThrow().getChanges())
+				.extracting(ChangeEventDTO::getSequence).containsExactly(3L);
+	}
+}
@@ -0,0 +1,74 @@
+package com.ideas2it.employeeManagement.department.service;
+
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Project;
+import com.ideas2it.employeeManagement.project.service.ProjectService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a replica that never receives any change, so every read routed
+ * to it returns a stale row.
+ */
+@SpringBootTest(properties = {
+		"employee-management.replicas.instances[0].name=stale",
+		"employee-management.replicas.instances[0].url=" + CachedLookupReplicaTests.REPLICA_URL,
+		"employee-management.replicas.instances[0].username=sa"
+})
+class CachedLookupReplicaTests {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:staleReplica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@BeforeAll
+	static void migrateReplica() {
+		Flyway.configure()
+				.dataSource(REPLICA_URL, "sa", "")
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+	}
+
+	@Test
+	void departmentEvictedByAnUpdateIsReadBackFromThePrimary() {
+		Long id = departmentService.createDepartment(Department.builder().departmentName("Before").build())
+				.getDepartmentId();
+		replica.update("insert into departments (department_id, department_name, is_deleted, version) values (?, ?, false, 0)",
+				id, "Before");
+
+		departmentService.updateDepartment(id, Department.builder().departmentName("After").build());
+		Department department = departmentService.getDepartmentById(id);
+
+		assertThat(department.getDepartmentName()).isEqualTo("After");
+		assertThat(department.getVersion()).isEqualTo(1L);
+		assertThat(departmentService.getDepartmentById(id)).isSameAs(department);
+	}
+
+	@Test
+	void projectEvictedByAnUpdateIsReadBackFromThePrimary() {
+		Long id = projectService.createProject(Project.builder().projectName("Before").build()).getProjectId();
+		replica.update("insert into projects (project_id, project_name, is_deleted, version) values (?, ?, false, 0)",
+				id, "Before");
+
+		projectService.updateProject(id, Project.builder().projectName("After").build());
+		Project project = projectService.getProjectById(id);
+
+		assertThat(project.getProjectName()).isEqualTo("After");
+		assertThat(project.getVersion()).isEqualTo(1L);
+		assertThat(projectService.getProjectById(id)).isSameAs(project);
+	}
+}
@@ -0,0 +1,152 @@
+package com.ideas2it.employeeManagement.department.service;
+
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DepartmentStatsServiceImpl.class)
+class DepartmentStatsServiceTests {
+
+	@Autowired
+	private DepartmentStatsService departmentStatsService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void deltasAreAddedToTheSummaryRow() {
+		Department department = entityManager.persist(Department.builder().departmentName("Sales").build());
+		departmentStatsService.createStats(department);
+
+		departmentStatsService.applyDelta(department.getDepartmentId(), 1, 50000, 3);
+		departmentStatsService.applyDelta(department.getDepartmentId(), 1, 40000, 2);
+		departmentStatsService.applyDelta(department.getDepartmentId(), -1, -50000, -3);
+
+		assertThat(stats(department.getDepartmentId())).containsExactly(1L, 40000.0, 2L);
+	}
+
+	@Test
+	void deltaForADepartmentWithoutARowRecalculatesIt() {
+		Department department = persistDepartmentWithEmployees("Support");
+
+		departmentStatsService.applyDelta(department.getDepartmentId(), 1, 1, 1);
+
+		assertThat(stats(department.getDepartmentId())).containsExactly(2L, 90000.0, 5L);
+	}
+
+	@Test
+	void recalculationOverwritesDriftedRowsAndCreatesMissingOnes() {
+		Department drifted = persistDepartmentWithEmployees("Support");
+		departmentStatsService.createStats(drifted);
+		Department empty = entityManager.persist(Department.builder().departmentName("New").build());
+		entityManager.flush();
+		jdbcTemplate.update("update department_stats set headcount = 99, total_salary = 1, total_experience = 99 "
+				+ "where department_id = ?", drifted.getDepartmentId());
+
+		departmentStatsService.recalculate(Set.of(drifted.getDepartmentId(), empty.getDepartmentId()));
+
+		assertThat(stats(drifted.getDepartmentId())).containsExactly(2L, 90000.0, 5L);
+		assertThat(stats(empty.getDepartmentId())).containsExactly(0L, 0.0, 0L);
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void concurrentRecalculationsOfANewRowBothCommit() throws Exception {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Long departmentId = transactionTemplate.execute(status ->
+				persistDepartmentWithEmployees("Concurrent").getDepartmentId());
+		CountDownLatch firstRecalculated = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		try {
+			CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+					status -> {
+						departmentStatsService.recalculate(Set.of(departmentId));
+						firstRecalculated.countDown();
+						await(releaseFirst);
+					}));
+			await(firstRecalculated);
+			CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+					status -> departmentStatsService.recalculate(Set.of(departmentId))));
+			Thread.sleep(200);
+			releaseFirst.countDown();
+
+			first.get(10, TimeUnit.SECONDS);
+			second.get(10, TimeUnit.SECONDS);
+			assertThat(stats(departmentId)).containsExactly(2L, 90000.0, 5L);
+		} finally {
+			releaseFirst.countDown();
+			jdbcTemplate.update("delete from department_stats where department_id = ?", departmentId);
+			jdbcTemplate.update("delete from employees where department_id = ?", departmentId);
+			jdbcTemplate.update("delete from departments where department_id = ?", departmentId);
+		}
+	}
+
+	/**
+	 * A department with two live employees and a deleted one, which the
+	 * summary leaves out.
+	 */
+	private Department persistDepartmentWithEmployees(String name) {
+		Department department = entityManager.persist(Department.builder().departmentName(name).build());
+		persistEmployee(department, 50000, 3, false);
+		persistEmployee(department, 40000, 2, false);
+		persistEmployee(department, 70000, 9, true);
+		entityManager.flush();
+		return department;
+	}
+
+	private void persistEmployee(Department department, double salary, int experience, boolean deleted) {
+		Employee employee = Employee.builder()
+				.employeeName("Employee")
+				.place("Chennai")
+				.salary(salary)
+				.experience(experience)
+				.department(department)
+				.build();
+		employee.setDeleted(deleted);
+		entityManager.persist(employee);
+	}
+
+	private List<Object> stats(Long departmentId) {
+		Map<String, Object> row = jdbcTemplate.queryForMap("select headcount, total_salary, total_experience "
+				+ "from department_stats where department_id = ?", departmentId);
+		return List.of(((Number) row.get("headcount")).longValue(), ((Number) row.get("total_salary")).doubleValue(),
+				((Number) row.get("total_experience")).longValue());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
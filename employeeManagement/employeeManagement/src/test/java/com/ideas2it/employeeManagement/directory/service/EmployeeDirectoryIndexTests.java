@@ -0,0 +1,87 @@
+package com.ideas2it.employeeManagement.directory.service;
+
+import com.ideas2it.employeeManagement.employee.employeeDTO.DirectoryEntryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeDirectoryIndexTests {
+
+	private EmployeeDirectoryIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new EmployeeDirectoryIndex();
+		index.put(new DirectoryEntryDTO(1L, "Karthik Raja", "Chennai", 10L));
+		index.put(new DirectoryEntryDTO(2L, "Raja Kumar", "Madurai", 10L));
+		index.put(new DirectoryEntryDTO(3L, "Surajan", "Chennai", 20L));
+		index.put(new DirectoryEntryDTO(4L, "Anitha", "New-Delhi", null));
+	}
+
+	@Test
+	void nameMatchesAreRankedByWhereTheQueryOccurs() {
+		assertThat(employeeIds(index.search("raj", null, null, 10))).containsExactly(2L, 1L, 3L);
+	}
+
+	@Test
+	void shortQueriesMatchNamePrefixesThenWordPrefixes() {
+		assertThat(employeeIds(index.search("r", null, null, 10))).containsExactly(2L, 1L);
+		assertThat(employeeIds(index.search("Su", null, null, 10))).containsExactly(3L);
+	}
+
+	@Test
+	void filtersAreIntersectedWithTheNameMatches() {
+		assertThat(employeeIds(index.search("raj", "chennai", null, 10))).containsExactly(1L, 3L);
+		assertThat(employeeIds(index.search("raj", null, 10L, 10))).containsExactly(2L, 1L);
+		assertThat(employeeIds(index.search(null, "new delhi", null, 10))).containsExactly(4L);
+		assertThat(index.search(null, null, null, 10)).isEmpty();
+	}
+
+	@Test
+	void searchStopsAtTheLimit() {
+		assertThat(employeeIds(index.search("raj", null, null, 2))).containsExactly(2L, 1L);
+		assertThat(employeeIds(index.search("r", null, null, 1))).containsExactly(2L);
+	}
+
+	@Test
+	void reindexingAnEmployeeDropsItsOldPostings() {
+		long postings = index.postings();
+
+		index.put(new DirectoryEntryDTO(2L, "Meena", "Chennai", 20L));
+
+		assertThat(employeeIds(index.search("raj", null, null, 10))).containsExactly(1L, 3L);
+		assertThat(employeeIds(index.search("mee", "chennai", 20L, 10))).containsExactly(2L);
+		assertThat(index.employeesOfDepartments(List.of(10L))).containsExactly(1L);
+
+		index.remove(2L);
+		index.remove(2L);
+
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.get(2L)).isNull();
+		assertThat(index.search("mee", null, null, 10)).isEmpty();
+		assertThat(index.postings()).isLessThan(postings);
+	}
+
+	@Test
+	void entriesKeepTheirOriginalText() {
+		DirectoryEntryDTO entry = index.get(4L);
+
+		assertThat(entry.getEmployeeName()).isEqualTo("Anitha");
+		assertThat(entry.getPlace()).isEqualTo("New-Delhi");
+		assertThat(entry.getDepartmentId()).isNull();
+	}
+
+	@Test
+	void normalizeFoldsCaseAndSeparators() {
+		assertThat(EmployeeDirectoryIndex.normalize("  Mary-Ann  O'Neil ")).isEqualTo("mary ann o neil");
+		assertThat(EmployeeDirectoryIndex.normalize(null)).isEmpty();
+	}
+
+	private static List<Long> employeeIds(List<DirectoryEntryDTO> entries) {
+		return entries.stream().map(DirectoryEntryDTO::getEmployeeId).toList();
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.ideas2it.employeeManagement.employee.respository;
+
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class EmployeeRepositoryTests {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Statistics statistics;
+
+	private Long firstEmployeeId;
+
+	private Long deletedEmployeeId;
+
+	@BeforeEach
+	void setUp() {
+		for (int d = 0; d < 3; d++) {
+			Department department = entityManager.persist(Department.builder()
+					.departmentName("Department " + d)
+					.build());
+			for (int e = 0; e < 5; e++) {
+				Employee employee = entityManager.persist(Employee.builder()
+						.employeeName("Employee " + d + e)
+						.place("Chennai")
+						.department(department)
+						.build());
+				if (firstEmployeeId == null) {
+					firstEmployeeId = employee.getEmployeeId();
+				}
+			}
+		}
+		entityManager.persist(Employee.builder()
+				.employeeName("Without department")
+				.place("Madurai")
+				.build());
+		Employee deleted = Employee.builder()
+				.employeeName("Deleted")
+				.place("Chennai")
+				.build();
+		deleted.setDeleted(true);
+		deletedEmployeeId = entityManager.persist(deleted).getEmployeeId();
+		entityManager.flush();
+		entityManager.clear();
+		statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void listingEmployeesReadsDepartmentNamesInTheSameStatement() {
+		List<EmployeeDTO> employeeDTOs = employeeRepository.findAllDTOs();
+
+		assertThat(employeeDTOs).hasSize(16)
+				.extracting(EmployeeDTO::getEmployeeName).doesNotContain("Deleted");
+		assertThat(employeeDTOs).filteredOn(employeeDTO -> employeeDTO.getDepartmentName() != null).hasSize(15);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void keysetPageReadsDepartmentNamesInTheSameStatement() {
+		List<EmployeeDTO> employeeDTOs = employeeRepository.findDTOPageAfter(firstEmployeeId, Limit.of(10));
+
+		assertThat(employeeDTOs).hasSize(10)
+				.allSatisfy(employeeDTO -> assertThat(employeeDTO.getDepartmentName()).isNotNull())
+				.extracting(EmployeeDTO::getEmployeeId).isSorted()
+				.allSatisfy(employeeId -> assertThat(employeeId).isGreaterThan(firstEmployeeId));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void findingEmployeeByIdReadsDepartmentNameInTheSameStatement() {
+		EmployeeDTO employeeDTO = employeeRepository.findDTOById(firstEmployeeId).orElseThrow();
+
+		assertThat(employeeDTO.getDepartmentName()).isEqualTo("Department 0");
+		assertThat(employeeRepository.findDTOById(deletedEmployeeId)).isEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void streamingEmployeesRunsOneStatement() {
+		List<EmployeeDTO> employeeDTOs;
+		try (Stream<EmployeeDTO> stream = employeeRepository.streamAllDTOs()) {
+			employeeDTOs = stream.toList();
+		}
+
+		assertThat(employeeDTOs).hasSize(16)
+				.extracting(EmployeeDTO::getEmployeeId).isSorted();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.ideas2it.employeeManagement.employee.respository;
+
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeFilterDTO;
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class EmployeeSpecificationsTests {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		Department sales = entityManager.persist(Department.builder().departmentName("Sales").build());
+		Department support = entityManager.persist(Department.builder().departmentName("Support").build());
+		persistEmployee("Anitha", sales, 40000, 2, LocalDate.of(1990, 1, 1), false);
+		persistEmployee("Karthik", sales, 50000, 5, LocalDate.of(1992, 6, 15), false);
+		persistEmployee("Meena", support, 60000, 8, LocalDate.of(1995, 12, 31), false);
+		persistEmployee("Raja", null, 50000, 5, LocalDate.of(1992, 6, 15), false);
+		persistEmployee("Deleted", sales, 50000, 5, LocalDate.of(1992, 6, 15), true);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void rangesIncludeBothBounds() {
+		EmployeeFilterDTO filter = new EmployeeFilterDTO();
+		filter.setMinSalary(40000.0);
+		filter.setMaxSalary(50000.0);
+		assertThat(names(filter)).containsExactlyInAnyOrder("Anitha", "Karthik", "Raja");
+
+		filter = new EmployeeFilterDTO();
+		filter.setMinExperience(5);
+		filter.setMaxExperience(8);
+		assertThat(names(filter)).containsExactlyInAnyOrder("Karthik", "Meena", "Raja");
+
+		filter = new EmployeeFilterDTO();
+		filter.setBornAfter(LocalDate.of(1990, 1, 1));
+		filter.setBornBefore(LocalDate.of(1992, 6, 15));
+		assertThat(names(filter)).containsExactlyInAnyOrder("Anitha", "Karthik", "Raja");
+	}
+
+	@Test
+	void departmentNameIsMatchedAgainstTheEmployeesOwnDepartment() {
+		EmployeeFilterDTO filter = new EmployeeFilterDTO();
+		filter.setDepartmentName("Sales");
+		assertThat(names(filter)).containsExactlyInAnyOrder("Anitha", "Karthik");
+
+		filter.setMinSalary(45000.0);
+		assertThat(names(filter)).containsExactly("Karthik");
+
+		filter.setDepartmentName("Marketing");
+		assertThat(names(filter)).isEmpty();
+	}
+
+	@Test
+	void emptyFilterMatchesEveryLiveEmployee() {
+		assertThat(names(new EmployeeFilterDTO())).containsExactlyInAnyOrder("Anitha", "Karthik", "Meena", "Raja");
+	}
+
+	private List<String> names(EmployeeFilterDTO filter) {
+		return employeeRepository.findAll(EmployeeSpecifications.matching(filter)).stream()
+				.map(Employee::getEmployeeName)
+				.toList();
+	}
+
+	private void persistEmployee(String name, Department department, double salary, int experience,
+			LocalDate dateOfBirth, boolean deleted) {
+		Employee employee = Employee.builder()
+				.employeeName(name)
+				.place("Chennai")
+				.salary(salary)
+				.experience(experience)
+				.dateOfBirth(dateOfBirth)
+				.department(department)
+				.build();
+		employee.setDeleted(deleted);
+		entityManager.persist(employee);
+	}
+
+}
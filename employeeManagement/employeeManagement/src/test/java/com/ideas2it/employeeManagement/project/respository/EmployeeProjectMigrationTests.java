@@ -0,0 +1,52 @@
+package com.ideas2it.employeeManagement.project.respository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeProjectMigrationTests {
+
+	private DriverManagerDataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:employeeProjectMigration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	@Test
+	void duplicateLinksAreMergedBeforeThePrimaryKeyIsAdded() {
+		flyway("3").migrate();
+		jdbcTemplate.update("insert into projects (project_name, is_deleted) values ('Apollo', false), "
+				+ "('Gemini', false)");
+		jdbcTemplate.update("insert into employees (employee_id, employee_name, is_deleted) values "
+				+ "(1, 'Asha', false), (2, 'Bala', false)");
+		jdbcTemplate.update("insert into employee_project (employee_id, project_id) values "
+				+ "(1, 1), (1, 1), (1, 2), (2, 1), (2, 1), (2, 1)");
+
+		flyway(null).migrate();
+
+		assertThat(jdbcTemplate.queryForList("select employee_id || '-' || project_id from employee_project "
+				+ "order by employee_id, project_id", String.class)).containsExactly("1-1", "1-2", "2-1");
+		assertThatThrownBy(() -> jdbcTemplate.update("insert into employee_project values (1, 1)"))
+				.isInstanceOf(DuplicateKeyException.class);
+	}
+
+	private Flyway flyway(String target) {
+		return Flyway.configure()
+				.dataSource(dataSource)
+				.locations("classpath:db/migration")
+				.target(target == null ? "latest" : target)
+				.load();
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.ideas2it.employeeManagement.project.respository;
+
+import com.ideas2it.employeeManagement.model.Department;
+import com.ideas2it.employeeManagement.model.Employee;
+import com.ideas2it.employeeManagement.model.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmployeeProjectRepository.class)
+class EmployeeProjectRepositoryTests {
+
+	@Autowired
+	private EmployeeProjectRepository employeeProjectRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private long projectId;
+
+	private long deletedProjectId;
+
+	private long employeeId;
+
+	private long otherEmployeeId;
+
+	private long deletedEmployeeId;
+
+	@BeforeEach
+	void setUp() {
+		Department department = entityManager.persist(Department.builder().departmentName("Engineering").build());
+		projectId = entityManager.persist(Project.builder().projectName("Apollo").build()).getProjectId();
+		Project deletedProject = Project.builder().projectName("Gemini").build();
+		deletedProject.setDeleted(true);
+		deletedProjectId = entityManager.persist(deletedProject).getProjectId();
+		employeeId = persistEmployee(department, false);
+		otherEmployeeId = persistEmployee(department, false);
+		deletedEmployeeId = persistEmployee(department, true);
+		entityManager.flush();
+	}
+
+	@Test
+	void addsEachMissingLinkOnce() {
+		int added = employeeProjectRepository.insertIfAbsent(List.of(link(employeeId, projectId),
+				link(otherEmployeeId, projectId), link(employeeId, projectId)));
+
+		assertThat(added).isEqualTo(2);
+		assertThat(employeeProjectRepository.insertIfAbsent(List.of(link(employeeId, projectId)))).isZero();
+		assertThat(linkCount()).isEqualTo(2);
+	}
+
+	@Test
+	void skipsMissingAndDeletedRows() {
+		int added = employeeProjectRepository.insertIfAbsent(List.of(link(deletedEmployeeId, projectId),
+				link(employeeId, deletedProjectId), link(Long.MAX_VALUE, projectId), link(employeeId, projectId)));
+
+		assertThat(added).isEqualTo(1);
+		assertThat(linkCount()).isEqualTo(1);
+	}
+
+	@Test
+	void skipsPairsLinkedByAnotherWriter() {
+		jdbcTemplate.update("insert into employee_project (employee_id, project_id) values (?, ?)", employeeId, projectId);
+
+		int added = employeeProjectRepository.insertIfAbsent(List.of(link(employeeId, projectId),
+				link(otherEmployeeId, projectId)));
+
+		assertThat(added).isEqualTo(1);
+		assertThat(linkCount()).isEqualTo(2);
+	}
+
+	@Test
+	void pairIsTheTablesPrimaryKey() {
+		employeeProjectRepository.insertIfAbsent(List.of(link(employeeId, projectId)));
+
+		assertThatThrownBy(() -> jdbcTemplate.update(
+				"insert into employee_project (employee_id, project_id) values (?, ?)", employeeId, projectId))
+				.isInstanceOf(DuplicateKeyException.class);
+	}
+
+	private long persistEmployee(Department department, boolean deleted) {
+		Employee employee = Employee.builder()
+				.employeeName("Employee")
+				.place("Chennai")
+				.department(department)
+				.build();
+		employee.setDeleted(deleted);
+		return entityManager.persist(employee).getEmployeeId();
+	}
+
+	private int linkCount() {
+		return jdbcTemplate.queryForObject("select count(*) from employee_project", Integer.class);
+	}
+
+	private static EmployeeProjectRepository.Link link(long employeeId, long projectId) {
+		return new EmployeeProjectRepository.Link(employeeId, projectId);
+	}
+}
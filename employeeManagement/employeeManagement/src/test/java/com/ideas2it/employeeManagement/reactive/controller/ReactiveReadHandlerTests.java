@@ -0,0 +1,80 @@
+package com.ideas2it.employeeManagement.reactive.controller;
+
+import com.ideas2it.employeeManagement.employee.employeeDTO.EmployeeDTO;
+import com.ideas2it.employeeManagement.project.projectDTO.ProjectDTO;
+import com.ideas2it.employeeManagement.reactive.respository.ReactiveReadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveReadHandlerTests {
+
+	private ReactiveReadRepository reactiveReadRepository;
+
+	private WebTestClient client;
+
+	@BeforeEach
+	void setUp() {
+		reactiveReadRepository = mock(ReactiveReadRepository.class);
+		client = WebTestClient.bindToRouterFunction(new ReactiveReadHandler(reactiveReadRepository).routes()).build();
+	}
+
+	@Test
+	void missingEmployeeIsNotFound() {
+		when(reactiveReadRepository.findEmployee(7L)).thenReturn(Mono.empty());
+
+		client.get().uri("/api/employees/7").exchange().expectStatus().isNotFound();
+	}
+
+	@Test
+	void idTooLargeForALongIsABadRequest() {
+		client.get().uri("/api/employees/99999999999999999999").exchange().expectStatus().isBadRequest();
+		client.get().uri("/api/projects/99999999999999999999/employees").exchange().expectStatus().isBadRequest();
+	}
+
+	@Test
+	void employeesOfADeletedProjectAreNotFound() {
+		when(reactiveReadRepository.findProject(3L)).thenReturn(Mono.empty());
+
+		client.get().uri("/api/projects/3/employees").exchange().expectStatus().isNotFound();
+		verify(reactiveReadRepository, never()).streamEmployeesOfProject(anyLong());
+	}
+
+	@Test
+	void employeesOfAProjectAreStreamedAsNdjson() {
+		when(reactiveReadRepository.findProject(3L))
+				.thenReturn(Mono.just(ProjectDTO.builder().projectId(3L).projectName("Apollo").build()));
+		when(reactiveReadRepository.streamEmployeesOfProject(3L)).thenReturn(Flux.just(
+				EmployeeDTO.builder().employeeId(1L).employeeName("Asha").build(),
+				EmployeeDTO.builder().employeeId(2L).employeeName("Ravi").build()));
+
+		client.get().uri("/api/projects/3/employees")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.expectBodyList(EmployeeDTO.class).hasSize(2);
+	}
+
+	@Test
+	void pageOfEmployeesNeedsNumericParameters() {
+		client.get().uri("/api/employees?after=x&limit=10").exchange().expectStatus().isBadRequest();
+	}
+
+	@Test
+	void pageOfEmployeesIsClampedToTheMaximumSize() {
+		when(reactiveReadRepository.findEmployeesAfter(5L, 1000)).thenReturn(Flux.empty());
+
+		client.get().uri("/api/employees?after=5&limit=100000").exchange().expectStatus().isOk();
+		verify(reactiveReadRepository).findEmployeesAfter(5L, 1000);
+	}
+}
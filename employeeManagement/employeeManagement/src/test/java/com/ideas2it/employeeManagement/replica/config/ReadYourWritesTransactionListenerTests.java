@@ -0,0 +1,69 @@
+package com.ideas2it.employeeManagement.replica.config;
+
+import com.ideas2it.employeeManagement.replica.service.ReplicaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadYourWritesTransactionListenerTests {
+
+	private ReplicaService replicaService;
+
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+		replicaService = mock(ReplicaService.class);
+		ReadYourWritesTransactionListener listener = new ReadYourWritesTransactionListener();
+		ReflectionTestUtils.setField(listener, "replicaService", replicaService);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		transactionManager.setTransactionExecutionListeners(List.of(listener));
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	void windowStartsWhenAReadWriteTransactionCommits() {
+		when(replicaService.getBoundClient()).thenReturn("client");
+
+		transactionTemplate.executeWithoutResult(status -> verify(replicaService, never()).recordWrite(any()));
+
+		verify(replicaService).recordWrite("client");
+	}
+
+	@Test
+	void readOnlyAndRolledBackTransactionsStartNoWindow() {
+		when(replicaService.getBoundClient()).thenReturn("client");
+
+		transactionTemplate.setReadOnly(true);
+		transactionTemplate.executeWithoutResult(status -> {
+		});
+		transactionTemplate.setReadOnly(false);
+		transactionTemplate.executeWithoutResult(status -> status.setRollbackOnly());
+
+		verify(replicaService, never()).recordWrite(any());
+	}
+
+	@Test
+	void transactionsWithoutABoundClientStartNoWindow() {
+		transactionTemplate.executeWithoutResult(status -> {
+		});
+
+		verify(replicaService, never()).recordWrite(any());
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.ideas2it.employeeManagement.replica.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRouterTests {
+
+	private final Connection primaryConnection = mock(Connection.class);
+
+	private final Connection firstConnection = mock(Connection.class);
+
+	private final Connection secondConnection = mock(Connection.class);
+
+	private HikariDataSource firstPool;
+
+	private HikariDataSource secondPool;
+
+	private ReplicaRouter router;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		DataSource primary = mock(DataSource.class);
+		when(primary.getConnection()).thenReturn(primaryConnection);
+		firstPool = mock(HikariDataSource.class);
+		when(firstPool.getConnection()).thenReturn(firstConnection);
+		secondPool = mock(HikariDataSource.class);
+		when(secondPool.getConnection()).thenReturn(secondConnection);
+		router = new ReplicaRouter(primary, List.of(new Replica("first", firstPool), new Replica("second", secondPool)),
+				Duration.ofMinutes(1), Duration.ofSeconds(5));
+	}
+
+	@Test
+	void readsTakeTurnsAmongTheReplicas() throws SQLException {
+		assertThat(List.of(router.getConnection(), router.getConnection(), router.getConnection()))
+				.containsExactly(firstConnection, secondConnection, firstConnection);
+		assertThat(router.getFallbackReads()).isZero();
+	}
+
+	@Test
+	void failingReplicaIsTakenOutOfRotation() throws SQLException {
+		when(firstPool.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+		assertThat(router.getConnection()).isSameAs(secondConnection);
+		assertThat(router.getConnection()).isSameAs(secondConnection);
+		assertThat(router.getConnection()).isSameAs(secondConnection);
+
+		Replica first = router.getReplicas().getFirst();
+		assertThat(first.isHealthy()).isFalse();
+		assertThat(first.getFailures()).isEqualTo(1);
+		assertThat(first.getLastError()).isEqualTo("Connection refused");
+	}
+
+	@Test
+	void readsFallBackToThePrimaryWhenNoReplicaIsLeft() throws SQLException {
+		when(firstPool.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(secondPool.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+		assertThat(router.getConnection()).isSameAs(primaryConnection);
+		assertThat(router.getConnection()).isSameAs(primaryConnection);
+		assertThat(router.getFallbackReads()).isEqualTo(2);
+	}
+
+	@Test
+	void healthCheckPutsARecoveredReplicaBackInRotation() throws SQLException {
+		when(firstPool.getConnection()).thenThrow(new SQLException("Connection refused"))
+				.thenReturn(firstConnection);
+		router.getConnection();
+		when(firstConnection.isValid(2)).thenReturn(true);
+		when(firstConnection.getMetaData()).thenReturn(mock(DatabaseMetaData.class));
+
+		router.checkHealth();
+
+		assertThat(router.getReplicas().getFirst().isHealthy()).isTrue();
+	}
+
+	@Test
+	void clientIsReadFromThePrimaryAfterItsWrite() throws SQLException {
+		router.recordWrite("writer");
+
+		router.bindClient("writer");
+		try {
+			assertThat(router.getConnection()).isSameAs(primaryConnection);
+		} finally {
+			router.unbindClient();
+		}
+		router.bindClient("reader");
+		try {
+			assertThat(router.getConnection()).isSameAs(firstConnection);
+		} finally {
+			router.unbindClient();
+		}
+		assertThat(router.getConnection()).isSameAs(secondConnection);
+		assertThat(router.getReadYourWritesReads()).isEqualTo(1);
+		assertThat(router.getFallbackReads()).isZero();
+	}
+
+	@Test
+	void readYourWritesWindowExpires() throws SQLException, InterruptedException {
+		DataSource primary = mock(DataSource.class);
+		ReplicaRouter shortWindow = new ReplicaRouter(primary, List.of(new Replica("first", firstPool)),
+				Duration.ofMillis(20), Duration.ofSeconds(5));
+		shortWindow.recordWrite("writer");
+		Thread.sleep(50);
+
+		shortWindow.bindClient("writer");
+		try {
+			assertThat(shortWindow.getConnection()).isSameAs(firstConnection);
+		} finally {
+			shortWindow.unbindClient();
+		}
+		verify(primary, never()).getConnection();
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.ideas2it.employeeManagement.writebehind.service;
+
+import com.ideas2it.employeeManagement.changefeed.service.ChangeFeedService;
+import com.ideas2it.employeeManagement.department.respository.DepartmentRepository;
+import com.ideas2it.employeeManagement.department.service.DepartmentStatsService;
+import com.ideas2it.employeeManagement.employee.respository.EmployeeRepository;
+import com.ideas2it.employeeManagement.model.ChangeEvent;
+import com.ideas2it.employeeManagement.project.respository.EmployeeProjectRepository;
+import com.ideas2it.employeeManagement.project.respository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WriteBehindFlusherTests {
+
+	private EmployeeRepository employeeRepository;
+
+	private ChangeFeedService changeFeedService;
+
+	private WriteBehindFlusher flusher;
+
+	@BeforeEach
+	void setUp() {
+		employeeRepository = mock(EmployeeRepository.class);
+		changeFeedService = mock(ChangeFeedService.class);
+		flusher = new WriteBehindFlusher();
+		ReflectionTestUtils.setField(flusher, "employeeRepository", employeeRepository);
+		ReflectionTestUtils.setField(flusher, "departmentRepository", mock(DepartmentRepository.class));
+		ReflectionTestUtils.setField(flusher, "projectRepository", mock(ProjectRepository.class));
+		ReflectionTestUtils.setField(flusher, "employeeProjectRepository", mock(EmployeeProjectRepository.class));
+		ReflectionTestUtils.setField(flusher, "departmentStatsService", mock(DepartmentStatsService.class));
+		ReflectionTestUtils.setField(flusher, "eventPublisher", mock(ApplicationEventPublisher.class));
+		ReflectionTestUtils.setField(flusher, "changeFeedService", changeFeedService);
+		ReflectionTestUtils.setField(flusher, "batchSize", 1000);
+	}
+
+	@Test
+	void onlyLiveEmployeesMovedAreAppendedAsUpdated() {
+		PendingWrites writes = new PendingWrites();
+		writes.add(new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_DEPARTMENT, 1L, 10L));
+		writes.add(new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_DEPARTMENT, 2L, 10L));
+		writes.add(new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_DEPARTMENT, 3L, 10L));
+		writes.add(new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_DEPARTMENT, 4L, 99L));
+		writes.add(new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_EMPLOYEE, 3L, 0));
+		when(employeeRepository.findLiveIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+		when(employeeRepository.assignDepartment(List.of(1L, 2L, 3L), 10L)).thenReturn(2);
+		when(employeeRepository.findLiveIds(List.of(4L))).thenReturn(List.of(4L));
+		when(employeeRepository.assignDepartment(List.of(4L), 99L)).thenReturn(0);
+		when(employeeRepository.findLiveIds(List.of(3L))).thenReturn(List.of(3L));
+
+		flusher.flush(writes);
+
+		verify(changeFeedService).append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.UPDATED, Set.of(1L));
+		verify(changeFeedService).append(ChangeEvent.EntityType.EMPLOYEE, ChangeEvent.Operation.DELETED, List.of(3L));
+		verify(employeeRepository).softDeleteByIds(any());
+	}
+
+}
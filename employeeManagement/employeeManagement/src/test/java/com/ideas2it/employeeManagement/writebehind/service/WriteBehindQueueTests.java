@@ -0,0 +1,145 @@
+package com.ideas2it.employeeManagement.writebehind.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class WriteBehindQueueTests {
+
+	@TempDir
+	private Path directory;
+
+	private final List<WriteBehindMutation> flushed = new ArrayList<>();
+
+	private WriteBehindFlusher flusher;
+
+	private WriteBehindQueue queue;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		flusher = mock(WriteBehindFlusher.class);
+		doAnswer(invocation -> {
+			flushed.addAll(invocation.<PendingWrites>getArgument(0).mutations());
+			return null;
+		}).when(flusher).flush(any());
+		queue = startQueue();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		queue.stop();
+	}
+
+	@Test
+	void acknowledgedMutationsAreReplayedAfterARestart() throws IOException {
+		queue.deleteEmployee(1L);
+		queue.assignEmployeeToDepartment(2L, 10L);
+		queue.assignEmployeeToProject(2L, 20L);
+
+		WriteBehindQueue restarted = startQueue();
+		restarted.flush();
+
+		assertThat(flushed).containsExactlyInAnyOrder(
+				new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_EMPLOYEE, 1L, 0),
+				new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_DEPARTMENT, 2L, 10L),
+				new WriteBehindMutation(WriteBehindMutation.Operation.ASSIGN_PROJECT, 2L, 20L));
+		assertThat(restarted.getStatus().getQueueDepth()).isZero();
+		assertThat(Files.readString(directory.resolve("journal"))).isEmpty();
+		restarted.stop();
+	}
+
+	@Test
+	void everyConcurrentWriteIsInTheJournalWhenAcknowledged() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> writes = new ArrayList<>();
+		for (long id = 1; id <= 400; id++) {
+			long employeeId = id;
+			writes.add(executor.submit(() -> queue.deleteEmployee(employeeId)));
+		}
+		for (Future<?> write : writes) {
+			write.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertThat(Files.readAllLines(directory.resolve("journal"))).hasSize(400);
+		assertThat(queue.getStatus().getJournalSyncs()).isBetween(1L, 400L);
+		assertThat(queue.getStatus().getQueueDepth()).isEqualTo(400);
+	}
+
+	@Test
+	void mutationFailingEveryAttemptIsDeadLetteredWithoutHoldingBackOthers() throws IOException {
+		doAnswer(invocation -> {
+			PendingWrites writes = invocation.getArgument(0);
+			if (writes.departmentAssignments.containsKey(13L)) {
+				throw new DataIntegrityViolationException("fk_employee_department");
+			}
+			flushed.addAll(writes.mutations());
+			return null;
+		}).when(flusher).flush(any());
+		queue.assignEmployeeToDepartment(13L, 99L);
+		queue.deleteEmployee(14L);
+
+		queue.flush();
+		assertThat(flushed).containsExactly(new WriteBehindMutation(WriteBehindMutation.Operation.DELETE_EMPLOYEE, 14L, 0));
+		assertThat(queue.getStatus().getQueueDepth()).isEqualTo(1);
+
+		queue.flush();
+		queue.flush();
+
+		assertThat(queue.getStatus().getQueueDepth()).isZero();
+		assertThat(queue.getStatus().getDeadLetters()).isEqualTo(1);
+		assertThat(Files.readAllLines(directory.resolve("dead-letter"))).containsExactly("ASSIGN_DEPARTMENT,13,99");
+		assertThat(Files.readString(directory.resolve("journal"))).isEmpty();
+	}
+
+	@Test
+	void batchIsKeptWhileTheDatabaseIsUnreachable() throws IOException {
+		doThrow(new CannotGetJdbcConnectionException("Connection refused")).when(flusher).flush(any());
+		queue.deleteEmployee(1L);
+		queue.deleteProject(2L);
+
+		for (int i = 0; i < 5; i++) {
+			queue.flush();
+		}
+
+		assertThat(queue.getStatus().getQueueDepth()).isEqualTo(2);
+		assertThat(queue.getStatus().getFailedFlushes()).isEqualTo(5);
+		assertThat(queue.getStatus().getDeadLetters()).isZero();
+		assertThat(Files.readAllLines(directory.resolve("journal"))).hasSize(2);
+	}
+
+	private WriteBehindQueue startQueue() throws IOException {
+		WriteBehindQueue writeBehindQueue = new WriteBehindQueue();
+		ReflectionTestUtils.setField(writeBehindQueue, "enabled", true);
+		ReflectionTestUtils.setField(writeBehindQueue, "journalPath", directory.resolve("journal"));
+		ReflectionTestUtils.setField(writeBehindQueue, "deadLetterPath", directory.resolve("dead-letter"));
+		ReflectionTestUtils.setField(writeBehindQueue, "maxAttempts", 3);
+		ReflectionTestUtils.setField(writeBehindQueue, "flusher", flusher);
+		ReflectionTestUtils.setField(writeBehindQueue, "cacheManager", new ConcurrentMapCacheManager());
+		ReflectionTestUtils.setField(writeBehindQueue, "meterRegistry", new SimpleMeterRegistry());
+		writeBehindQueue.start();
+		return writeBehindQueue;
+	}
+}